@@ -0,0 +1,95 @@
+package object_fight.benchmarks;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.game.Game;
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.levels.LevelPack;
+import object_fight.levels.LevelSource;
+import object_fight.levels.ProceduralLevelGenerator;
+import object_fight.utils.PlayfieldConfig;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Disposiciones de ladrillos comunes a los benchmarks. Un nombre de la forma
+ * {@code levelN} elige el nivel N del paquete por defecto y uno de la forma
+ * {@code bricksN} genera un nivel procedural con N ladrillos.
+ *
+ * El nivel elegido se repite indefinidamente, de modo que al completarlo la
+ * partida vuelve a cargarlo y la medición no acaba midiendo una partida ya
+ * ganada.
+ */
+public final class BenchmarkLayouts {
+
+    // Área de juego de todas las mediciones
+    public static final PlayfieldConfig PLAYFIELD =
+            new PlayfieldConfig(HEADLESS_SCREEN_WIDTH, HEADLESS_SCREEN_HEIGHT);
+
+    // Semilla fija para que las mediciones sean reproducibles
+    public static final long SEED = 42L;
+
+    private BenchmarkLayouts() {
+    }
+
+    /**
+     * Crea una partida ya iniciada con la disposición indicada.
+     *
+     * @param layout Nombre de la disposición
+     * @return Partida lista para avanzar
+     */
+    public static Game newGame(String layout) {
+        Game game = new Game(PLAYFIELD, SEED, levels(layout));
+        game.start();
+        return game;
+    }
+
+    /**
+     * Obtiene el origen de niveles de una disposición.
+     *
+     * @param layout Nombre de la disposición
+     * @return Origen de niveles que repite siempre el mismo nivel
+     */
+    public static LevelSource levels(String layout) {
+        if (layout.startsWith("level")) {
+            int level = Integer.parseInt(layout.substring("level".length()));
+            return new RepeatingLevel(LevelPack.getDefault(), level);
+        }
+        if (layout.startsWith("bricks")) {
+            int bricks = Integer.parseInt(layout.substring("bricks".length()));
+            return new RepeatingLevel(new ProceduralLevelGenerator(SEED, 1, bricks, PROCEDURAL_DEFAULT_DENSITY), 1);
+        }
+        throw new IllegalArgumentException("Disposición desconocida: " + layout);
+    }
+
+    /**
+     * Origen de niveles que devuelve siempre el mismo nivel de otro origen.
+     */
+    private static final class RepeatingLevel implements LevelSource {
+
+        private final LevelSource source;
+        private final int level;
+
+        RepeatingLevel(LevelSource source, int level) {
+            this.source = source;
+            this.level = level;
+        }
+
+        @Override
+        public int getLevelCount() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void loadLevel(int number, BrickField field, PlayfieldConfig playfield) {
+            source.loadLevel(level, field, playfield);
+        }
+
+        @Override
+        public boolean isPaddleResize(int number) {
+            return source.isPaddleResize(level);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package object_fight.benchmarks;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.collisions.UniformGrid;
+import object_fight.game.Game;
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.levels.ProceduralLevelGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Benchmark de escalado de la fase amplia: compara la consulta de la
+ * {@link UniformGrid} con un recorrido lineal de todos los ladrillos para una
+ * caja del tamaño de la bola, según crece el número de ladrillos.
+ *
+ * Como los ladrillos se hacen más pequeños al haber más, bajo la caja de la
+ * bola caben cada vez más y esa consulta crece con el número de resultados.
+ * {@link #gridQueryBrick()} consulta una caja del tamaño medio de un ladrillo,
+ * con un número de resultados constante, y mide el coste propio de la rejilla.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadphaseBenchmark {
+
+    // Número de cajas de consulta precalculadas (potencia de dos)
+    private static final int QUERIES = 1024;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int bricks;
+
+    private BrickField field;
+    private UniformGrid grid;
+    private float[] queryX;
+    private float[] queryY;
+    private float brickSize;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        field = new BrickField(bricks);
+        new ProceduralLevelGenerator(BenchmarkLayouts.SEED, 1, bricks, PROCEDURAL_DEFAULT_DENSITY)
+                .loadLevel(1, field, BenchmarkLayouts.PLAYFIELD);
+
+        grid = new UniformGrid(BenchmarkLayouts.PLAYFIELD.getWidth(), BenchmarkLayouts.PLAYFIELD.getHeight(),
+                Game.brickCellSize(field));
+        brickSize = field.getAverageSize();
+        grid.clear(field.size());
+        for (int i = 0; i < field.size(); i++) {
+            grid.insert(i, field.getX(i), field.getY(i),
+                    field.getX(i) + field.getWidth(i), field.getY(i) + field.getHeight(i));
+        }
+
+        // Posiciones de la bola repartidas por la zona de ladrillos
+        SplittableRandom random = new SplittableRandom(BenchmarkLayouts.SEED);
+        queryX = new float[QUERIES];
+        queryY = new float[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryX[i] = (float) random.nextDouble(BenchmarkLayouts.PLAYFIELD.getWidth() - 2 * BALL_RADIUS);
+            queryY[i] = (float) random.nextDouble(BenchmarkLayouts.PLAYFIELD.getHeight() / 2.0);
+        }
+    }
+
+    @Benchmark
+    public int gridQuery() {
+        int q = next++ & (QUERIES - 1);
+        return grid.query(queryX[q], queryY[q], queryX[q] + 2 * BALL_RADIUS, queryY[q] + 2 * BALL_RADIUS);
+    }
+
+    @Benchmark
+    public int gridQueryBrick() {
+        int q = next++ & (QUERIES - 1);
+        return grid.query(queryX[q], queryY[q], queryX[q] + brickSize, queryY[q] + brickSize);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int q = next++ & (QUERIES - 1);
+        float minX = queryX[q];
+        float minY = queryY[q];
+        float maxX = minX + 2 * BALL_RADIUS;
+        float maxY = minY + 2 * BALL_RADIUS;
+
+        int hits = 0;
+        for (int i = 0; i < field.size(); i++) {
+            if (field.isAlive(i)
+                    && field.getX(i) < maxX && minX < field.getX(i) + field.getWidth(i)
+                    && field.getY(i) < maxY && minY < field.getY(i) + field.getHeight(i)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
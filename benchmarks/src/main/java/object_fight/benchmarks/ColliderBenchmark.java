@@ -0,0 +1,62 @@
+package object_fight.benchmarks;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.collisions.CircleCollider;
+import object_fight.collisions.RectangleCollider;
+import object_fight.collisions.SweptCollision;
+import object_fight.utils.Vector2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las pruebas de colisión de la fase estrecha: la intersección
+ * círculo-rectángulo de {@link CircleCollider} y el barrido continuo de
+ * {@link SweptCollision}, que sustituye a la antigua resolución de la colisión
+ * bola-ladrillo. Cada prueba se mide con un caso que choca y otro que no.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColliderBenchmark {
+
+    private CircleCollider circle;
+    private RectangleCollider touchingBox;
+    private RectangleCollider farBox;
+    private SweptCollision sweep;
+
+    @Setup
+    public void setUp() {
+        circle = new CircleCollider(new Vector2D(100, 100), 40);
+        touchingBox = new RectangleCollider(new Vector2D(120, 120), 100, 60);
+        farBox = new RectangleCollider(new Vector2D(500, 500), 100, 60);
+        sweep = new SweptCollision();
+    }
+
+    @Benchmark
+    public boolean circleIntersectsHit() {
+        return circle.intersects(touchingBox);
+    }
+
+    @Benchmark
+    public boolean circleIntersectsMiss() {
+        return circle.intersects(farBox);
+    }
+
+    @Benchmark
+    public float sweepHit() {
+        sweep.sweepCircleBox(100, 100, 40, 25, 25, 150, 150, 250, 210);
+        return sweep.getTime();
+    }
+
+    @Benchmark
+    public boolean sweepMiss() {
+        return sweep.sweepCircleBox(100, 100, 40, 25, -25, 150, 150, 250, 210);
+    }
+}
@@ -0,0 +1,72 @@
+package object_fight.benchmarks;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.game.FrameSnapshot;
+import object_fight.game.Game;
+import object_fight.ui.FrameRenderer;
+import object_fight.ui.LayeredCompositor;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del renderizado fuera de pantalla: dibuja un frame completo de
+ * cada disposición sobre una {@link BufferedImage} del tamaño del área de
+ * juego, con el mismo {@link FrameRenderer} que usa el panel del juego.
+ * {@code composeFrame} mide lo mismo a través del {@link LayeredCompositor},
+ * con las capas del fondo y de los ladrillos estáticos ya guardadas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+
+    @Param({"level1", "level2", "level3", "level4", "level5", "bricks1000", "bricks10000"})
+    public String layout;
+
+    private BufferedImage image;
+    private Graphics2D graphics;
+    private FrameSnapshot snapshot;
+    private FrameRenderer renderer;
+    private LayeredCompositor compositor;
+
+    @Setup
+    public void setUp() {
+        Game game = BenchmarkLayouts.newGame(layout);
+        snapshot = new FrameSnapshot();
+        snapshot.capture(game, 1f);
+
+        image = new BufferedImage(BenchmarkLayouts.PLAYFIELD.getWidth(), BenchmarkLayouts.PLAYFIELD.getHeight(),
+                BufferedImage.TYPE_INT_RGB);
+        graphics = image.createGraphics();
+        renderer = new FrameRenderer();
+        compositor = new LayeredCompositor(new FrameRenderer());
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage renderFrame() {
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        renderer.render(graphics, snapshot);
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage composeFrame() {
+        compositor.compose(graphics, snapshot, image.getWidth(), image.getHeight());
+        return image;
+    }
+}
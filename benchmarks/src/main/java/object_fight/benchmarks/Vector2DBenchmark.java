@@ -0,0 +1,74 @@
+package object_fight.benchmarks;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.utils.Vector2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las operaciones de {@link Vector2D}. Las operaciones modifican
+ * el vector sobre el que se llaman, así que cada medición parte de una copia
+ * para que los valores no crezcan sin límite entre llamadas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector2DBenchmark {
+
+    private Vector2D position;
+    private Vector2D velocity;
+    private Vector2D work;
+
+    @Setup
+    public void setUp() {
+        position = new Vector2D(640.5f, 360.25f);
+        velocity = new Vector2D(12.5f, -9.75f);
+        work = new Vector2D();
+    }
+
+    /**
+     * Reinicia el vector de trabajo a la posición de partida.
+     */
+    private Vector2D reset() {
+        work.setX(position.getX());
+        work.setY(position.getY());
+        return work;
+    }
+
+    @Benchmark
+    public Vector2D add() {
+        return reset().add(velocity);
+    }
+
+    @Benchmark
+    public Vector2D subtract() {
+        return reset().subtract(velocity);
+    }
+
+    @Benchmark
+    public Vector2D multiply() {
+        return reset().multiply(1.5f);
+    }
+
+    @Benchmark
+    public float magnitude() {
+        return velocity.magnitude();
+    }
+
+    @Benchmark
+    public Vector2D normalize() {
+        return reset().normalize();
+    }
+
+    @Benchmark
+    public Vector2D copy() {
+        return new Vector2D(velocity);
+    }
+}
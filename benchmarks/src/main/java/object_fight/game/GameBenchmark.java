@@ -0,0 +1,92 @@
+package object_fight.game;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.benchmarks.BenchmarkLayouts;
+import object_fight.gameobjects.Ball;
+import object_fight.simulation.Autopilot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks del bucle de simulación: un tick completo de {@link Game#update()}
+ * y solo la fase de colisiones, con una bola o en modo multibola. Está en el
+ * paquete {@code object_fight.game} para poder llamar a
+ * {@code checkCollisions()}, que no es pública.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameBenchmark {
+
+    @Param({"level1", "level2", "level3", "level4", "level5", "bricks1000", "bricks10000", "bricks100000"})
+    public String layout;
+
+    @Param({"1", "1000"})
+    public int balls;
+
+    private Game game;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        game = BenchmarkLayouts.newGame(layout);
+    }
+
+    /**
+     * Pone en juego la bola principal y, si faltan, añade las bolas extra.
+     */
+    private void keepBallsInPlay() {
+        Ball ball = game.getBall();
+        if (ball.isStuckToPaddle()) {
+            ball.launchBall();
+        }
+        if (game.getBallCount() < balls) {
+            game.spawnBalls(balls - game.getBallCount());
+        }
+    }
+
+    /**
+     * Un tick completo con el piloto automático moviendo la paleta.
+     */
+    @Benchmark
+    public int update() {
+        if (game.isGameOver()) {
+            game = BenchmarkLayouts.newGame(layout);
+        }
+        Autopilot.steer(game);
+        game.update();
+        if (balls > 1 && game.getBallCount() == 1) {
+            keepBallsInPlay();
+        }
+        return game.getScore();
+    }
+
+    /**
+     * Solo la fase de colisiones: barrido de las bolas contra los ladrillos,
+     * límites y paleta. Las bolas que se pierden se vuelven a poner en juego,
+     * y si el nivel se vacía se empieza una partida nueva.
+     */
+    @Benchmark
+    public int checkCollisions() {
+        keepBallsInPlay();
+
+        game.checkCollisions();
+
+        for (Ball ball : game.getBalls()) {
+            if (!ball.isAlive()) {
+                ball.resetBallPosition();
+                ball.resetBallVelocity();
+            }
+        }
+        if (game.getBricks().isCleared()) {
+            game = BenchmarkLayouts.newGame(layout);
+        }
+        return game.getScore();
+    }
+}
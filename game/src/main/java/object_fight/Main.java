@@ -0,0 +1,30 @@
+package object_fight;
+
+
+import object_fight.game.GameManager;
+import object_fight.utils.AssetManager;
+import object_fight.utils.FontRegistry;
+
+import javax.swing.*;
+
+import static object_fight.utils.Constants.UI_HUD_FONT_SIZE;
+/**
+ *
+ * @author jairo
+ */
+
+/**
+ * Clase principal que inicia el juego.
+ */
+public class Main {
+    public static void main(String[] args) {
+        // Las imágenes, los sonidos y las fuentes se cargan en paralelo mientras se crea la interfaz
+        AssetManager.getInstance().preload();
+        FontRegistry.getInstance().preload()
+                .thenRun(() -> FontRegistry.getInstance().getArcadeFont(UI_HUD_FONT_SIZE));
+
+        SwingUtilities.invokeLater(() -> {
+            new GameManager();
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package object_fight.collisions;
+
+
+/**
+ *
+ * @author jairo
+ */
+
+import object_fight.utils.Vector2D;
+
+import java.awt.*;
+
+import static object_fight.utils.Constants.COLLIDER_DEBUG_COLOR;
+
+/**
+ * Clase que representa un collider circular. Guarda el centro y el radio como
+ * valores primitivos y resuelve las intersecciones con la caja del otro
+ * collider mediante el punto más cercano, sin crear objetos.
+ */
+public class CircleCollider implements Collider {
+
+    // Centro del círculo
+    private float centerX;
+    private float centerY;
+
+    // Radio del círculo
+    private float radius;
+
+    /**
+     * Constructor del collider circular.
+     *
+     * @param position Vector2D que representa el centro del círculo
+     * @param radius Radio del círculo en píxeles
+     */
+    public CircleCollider(Vector2D position, double radius) {
+        this.centerX = position.getX();
+        this.centerY = position.getY();
+        this.radius = (float) radius;
+    }
+
+    /**
+     * Actualiza la posición del centro del círculo copiando sus coordenadas.
+     *
+     * @param position Nueva posición del centro del círculo
+     */
+    @Override
+    public void updatePosition(Vector2D position) {
+        updatePosition(position.getX(), position.getY());
+    }
+
+    /**
+     * Actualiza la posición del centro del círculo. Se llama cuando la bola se
+     * mueve.
+     *
+     * @param centerX Nueva coordenada X del centro
+     * @param centerY Nueva coordenada Y del centro
+     */
+    public void updatePosition(float centerX, float centerY) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+    }
+
+    /**
+     * Verifica si este collider intersecta con otro. Primero verifica si las
+     * cajas delimitadoras se solapan y después calcula la distancia desde el
+     * centro al punto más cercano de la caja del otro collider.
+     *
+     * @param other El otro collider a verificar
+     * @return true si hay intersección, false en caso contrario
+     */
+    @Override
+    public boolean intersects(Collider other) {
+        if (!boundsOverlap(other)) {
+            return false;
+        }
+
+        float closestX = Math.max(other.getMinX(), Math.min(centerX, other.getMaxX()));
+        float closestY = Math.max(other.getMinY(), Math.min(centerY, other.getMaxY()));
+        float dx = centerX - closestX;
+        float dy = centerY - closestY;
+        return dx * dx + dy * dy < radius * radius;
+    }
+
+    /**
+     * Obtiene el rectángulo delimitador (bounding box) que contiene al círculo.
+     *
+     * @return Rectangle que representa el área que contiene al círculo
+     */
+    @Override
+    public Rectangle getBoundingBox() {
+        return new Rectangle(
+                (int) (centerX - radius),
+                (int) (centerY - radius),
+                (int) (radius * 2),
+                (int) (radius * 2)
+        );
+    }
+
+    @Override
+    public float getMinX() {
+        return centerX - radius;
+    }
+
+    @Override
+    public float getMinY() {
+        return centerY - radius;
+    }
+
+    @Override
+    public float getMaxX() {
+        return centerX + radius;
+    }
+
+    @Override
+    public float getMaxY() {
+        return centerY + radius;
+    }
+
+    /**
+     * Dibuja una representación visual del círculo para propósitos de debug.
+     * Dibuja el círculo usando el color de debug especificado.
+     *
+     * @param g Contexto gráfico donde se dibujará
+     */
+    @Override
+    public void paintDebug(Graphics g) {
+        g.setColor(COLLIDER_DEBUG_COLOR);
+        g.drawOval(
+                (int) (centerX - radius),
+                (int) (centerY - radius),
+                (int) (radius * 2),
+                (int) (radius * 2)
+        );
+    }
+
+    /**
+     * Actualiza el radio del collider.
+     *
+     * @param newRadius Nuevo radio
+     */
+    public void updateSize(int newRadius) {
+        this.radius = newRadius;
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    public float getCenterX() {
+        return centerX;
+    }
+
+    public float getCenterY() {
+        return centerY;
+    }
+}
@@ -32,12 +32,36 @@ public interface Collider {
     boolean intersects(Collider other);
 
     /**
-     * Devuelve la caja delimitadora del collider en forma de un objeto Rectangle.
+     * Devuelve la caja delimitadora del collider en forma de un objeto
+     * Rectangle. Crea un objeto nuevo en cada llamada, por lo que solo debe
+     * usarse fuera del bucle de simulación (depuración, herramientas).
      *
      * @return La caja delimitadora del colisionador.
      */
     Rectangle getBoundingBox();
 
+    // Límites de la caja delimitadora en coordenadas primitivas, sin crear objetos
+    float getMinX();
+
+    float getMinY();
+
+    float getMaxX();
+
+    float getMaxY();
+
+    /**
+     * Comprueba si las cajas delimitadoras de dos colliders se solapan usando
+     * solo sus límites primitivos. Es la fase rápida de todas las
+     * intersecciones y no crea objetos.
+     *
+     * @param other El collider con el que se compara.
+     * @return true si las cajas se solapan, false en caso contrario.
+     */
+    default boolean boundsOverlap(Collider other) {
+        return getMinX() < other.getMaxX() && other.getMinX() < getMaxX()
+                && getMinY() < other.getMaxY() && other.getMinY() < getMaxY();
+    }
+
     /**
      * Dibuja la representación de depuración del collider.
      *
@@ -50,15 +50,15 @@ public class RectangleCollider implements Collider {
     }
 
     /**
-     * Verifica si este collider intersecta con otro. Utiliza los bounding
-     * boxes de ambos colliders para la detección.
+     * Verifica si este collider intersecta con otro. Utiliza los límites de
+     * ambos colliders para la detección.
      *
      * @param other El otro collider a verificar
      * @return true si hay intersección, false en caso contrario
      */
     @Override
     public boolean intersects(Collider other) {
-        return this.getBoundingBox().intersects(other.getBoundingBox());
+        return boundsOverlap(other);
     }
 
     /**
@@ -77,6 +77,26 @@ public class RectangleCollider implements Collider {
         );
     }
 
+    @Override
+    public float getMinX() {
+        return position.getX();
+    }
+
+    @Override
+    public float getMinY() {
+        return position.getY();
+    }
+
+    @Override
+    public float getMaxX() {
+        return position.getX() + width;
+    }
+
+    @Override
+    public float getMaxY() {
+        return position.getY() + height;
+    }
+
     /**
      * Dibuja una representación visual del collider para propósitos de
      * debug. Dibuja el rectángulo usando el color de debug especificado.
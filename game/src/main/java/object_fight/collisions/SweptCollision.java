@@ -0,0 +1,206 @@
+package object_fight.collisions;
+
+/**
+ * @author jairo
+ */
+
+/**
+ * Detección continua de colisiones entre un círculo en movimiento y una caja
+ * alineada con los ejes (AABB). En lugar de comprobar solo si hay solapamiento
+ * al final del tick, calcula el instante exacto de impacto dentro del
+ * desplazamiento, por lo que la bola no puede atravesar ladrillos finos aunque
+ * se mueva muy rápido.
+ *
+ * El cálculo equivale a lanzar un rayo desde el centro del círculo contra la
+ * caja ampliada con el radio (suma de Minkowski), tratando las esquinas como
+ * cuartos de círculo. El resultado del último cálculo se guarda en la propia
+ * instancia para no crear objetos en cada consulta.
+ */
+public class SweptCollision {
+
+    // Resultado del último impacto encontrado
+    private float time;
+    private float normalX;
+    private float normalY;
+
+    /**
+     * Calcula el primer impacto de un círculo que se desplaza (dx, dy) contra
+     * una caja. Si el círculo ya solapa la caja y se mueve hacia ella, el
+     * impacto se produce en el instante 0; si se aleja, se ignora.
+     *
+     * @param centerX Centro X del círculo al inicio del desplazamiento
+     * @param centerY Centro Y del círculo al inicio del desplazamiento
+     * @param radius Radio del círculo
+     * @param dx Desplazamiento total en X
+     * @param dy Desplazamiento total en Y
+     * @param minX Borde izquierdo de la caja
+     * @param minY Borde superior de la caja
+     * @param maxX Borde derecho de la caja
+     * @param maxY Borde inferior de la caja
+     * @return true si hay impacto dentro del desplazamiento
+     */
+    public boolean sweepCircleBox(float centerX, float centerY, float radius, float dx, float dy,
+                                  float minX, float minY, float maxX, float maxY) {
+        if (resolveOverlap(centerX, centerY, radius, dx, dy, minX, minY, maxX, maxY)) {
+            return true;
+        }
+
+        // Rayo contra la caja ampliada con el radio (método de los slabs)
+        float entry = 0f;
+        float exit = 1f;
+        int entryAxis = -1;
+
+        if (dx == 0f) {
+            if (centerX < minX - radius || centerX > maxX + radius) {
+                return false;
+            }
+        } else {
+            float t1 = (minX - radius - centerX) / dx;
+            float t2 = (maxX + radius - centerX) / dx;
+            float near = Math.min(t1, t2);
+            float far = Math.max(t1, t2);
+            if (near > entry) {
+                entry = near;
+                entryAxis = 0;
+            }
+            exit = Math.min(exit, far);
+        }
+
+        if (dy == 0f) {
+            if (centerY < minY - radius || centerY > maxY + radius) {
+                return false;
+            }
+        } else {
+            float t1 = (minY - radius - centerY) / dy;
+            float t2 = (maxY + radius - centerY) / dy;
+            float near = Math.min(t1, t2);
+            float far = Math.max(t1, t2);
+            if (near > entry) {
+                entry = near;
+                entryAxis = 1;
+            }
+            exit = Math.min(exit, far);
+        }
+
+        if (entry > exit) {
+            return false;
+        }
+
+        if (entryAxis < 0) {
+            // Empieza dentro de la caja ampliada sin solapar la caja: está en
+            // una región de esquina, fuera del cuarto de círculo redondeado
+            float cornerX = centerX < minX ? minX : maxX;
+            float cornerY = centerY < minY ? minY : maxY;
+            return sweepCorner(centerX, centerY, radius, dx, dy, cornerX, cornerY);
+        }
+
+        // Punto del centro en el momento de entrar en la caja ampliada
+        float hitX = centerX + dx * entry;
+        float hitY = centerY + dy * entry;
+        boolean outsideX = hitX < minX || hitX > maxX;
+        boolean outsideY = hitY < minY || hitY > maxY;
+
+        if (outsideX && outsideY) {
+            // Región de esquina: el impacto real es contra el cuarto de círculo
+            float cornerX = hitX < minX ? minX : maxX;
+            float cornerY = hitY < minY ? minY : maxY;
+            return sweepCorner(centerX, centerY, radius, dx, dy, cornerX, cornerY);
+        }
+
+        time = entry;
+        if (entryAxis == 0) {
+            normalX = dx > 0 ? -1f : 1f;
+            normalY = 0f;
+        } else {
+            normalX = 0f;
+            normalY = dy > 0 ? -1f : 1f;
+        }
+        return true;
+    }
+
+    /**
+     * Comprueba si el círculo ya solapa la caja al inicio y se mueve hacia
+     * ella. En ese caso el impacto es inmediato y la normal apunta hacia fuera
+     * de la caja por el lado más cercano.
+     */
+    private boolean resolveOverlap(float centerX, float centerY, float radius, float dx, float dy,
+                                   float minX, float minY, float maxX, float maxY) {
+        float closestX = Math.max(minX, Math.min(centerX, maxX));
+        float closestY = Math.max(minY, Math.min(centerY, maxY));
+        float offsetX = centerX - closestX;
+        float offsetY = centerY - closestY;
+        float distanceSq = offsetX * offsetX + offsetY * offsetY;
+
+        if (distanceSq >= radius * radius) {
+            return false;
+        }
+
+        float nx;
+        float ny;
+        if (distanceSq > 0f) {
+            float distance = (float) Math.sqrt(distanceSq);
+            nx = offsetX / distance;
+            ny = offsetY / distance;
+        } else {
+            // El centro está dentro de la caja: se sale por el lado más cercano
+            float toLeft = centerX - minX;
+            float toRight = maxX - centerX;
+            float toTop = centerY - minY;
+            float toBottom = maxY - centerY;
+            float min = Math.min(Math.min(toLeft, toRight), Math.min(toTop, toBottom));
+            nx = min == toLeft ? -1f : min == toRight ? 1f : 0f;
+            ny = nx != 0f ? 0f : min == toTop ? -1f : 1f;
+        }
+
+        // Si ya se está alejando de la caja no hay nuevo impacto
+        if (dx * nx + dy * ny >= 0f) {
+            return false;
+        }
+
+        time = 0f;
+        normalX = nx;
+        normalY = ny;
+        return true;
+    }
+
+    /**
+     * Calcula el impacto del centro del círculo contra el círculo de radio
+     * {@code radius} centrado en una esquina de la caja.
+     */
+    private boolean sweepCorner(float centerX, float centerY, float radius, float dx, float dy,
+                                float cornerX, float cornerY) {
+        float ox = centerX - cornerX;
+        float oy = centerY - cornerY;
+        float a = dx * dx + dy * dy;
+        float b = 2f * (ox * dx + oy * dy);
+        float c = ox * ox + oy * oy - radius * radius;
+        float discriminant = b * b - 4f * a * c;
+
+        if (a == 0f || discriminant < 0f) {
+            return false;
+        }
+
+        float t = (-b - (float) Math.sqrt(discriminant)) / (2f * a);
+        if (t < 0f || t > 1f) {
+            return false;
+        }
+
+        time = t;
+        normalX = (ox + dx * t) / radius;
+        normalY = (oy + dy * t) / radius;
+        return true;
+    }
+
+    // Getters del último impacto
+    public float getTime() {
+        return time;
+    }
+
+    public float getNormalX() {
+        return normalX;
+    }
+
+    public float getNormalY() {
+        return normalY;
+    }
+}
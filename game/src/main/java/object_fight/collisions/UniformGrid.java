@@ -0,0 +1,413 @@
+package object_fight.collisions;
+
+/**
+ * @author jairo
+ */
+
+import java.util.Arrays;
+
+/**
+ * Rejilla uniforme para la fase amplia (broadphase) de la detección de
+ * colisiones. Divide el área de juego en celdas cuadradas y guarda en cada
+ * celda los identificadores de los objetos cuya caja delimitadora la toca. Una
+ * consulta recorre las celdas que solapa y solo devuelve los objetos cuya caja
+ * también la solapa, así que su coste depende de los objetos cercanos y no de
+ * cuántos comparten celda con ellos.
+ *
+ * El lado de las celdas debe ser del orden del tamaño de los objetos: con
+ * celdas mucho mayores cada consulta recorre muchos objetos lejanos, y con
+ * celdas mucho menores recorre muchas celdas vacías. Por eso puede cambiarse
+ * al vaciar la rejilla, por ejemplo al cargar un nivel.
+ *
+ * Los objetos se identifican por un índice entero (su posición en el array de
+ * ladrillos) y la rejilla se actualiza de forma incremental, insertando o
+ * quitando un objeto cada vez. Un objeto que se mueve se inserta con la caja
+ * de todo su recorrido. Los objetos fuera del área de juego se asignan a las
+ * celdas del borde.
+ *
+ * Las consultas solo leen la rejilla y escriben en un {@link Query} propio,
+ * así que varios hilos pueden consultar a la vez mientras nadie la modifique.
+ */
+public class UniformGrid {
+
+    /**
+     * Resultado de una consulta. Cada hilo que consulta la rejilla usa el suyo
+     * y lo reutiliza entre consultas para no reservar memoria.
+     */
+    public static class Query {
+
+        // Identificadores encontrados, ordenados
+        private int[] results = new int[16];
+        private int count;
+
+        // Array auxiliar y contadores de la ordenación por dígitos
+        private int[] scratch = new int[16];
+        private final int[] bucketCounts = new int[1 << RADIX_BITS];
+
+        /**
+         * Obtiene un resultado de la consulta.
+         *
+         * @param index Posición del resultado (0 a count - 1)
+         * @return Identificador del objeto
+         */
+        public int getResult(int index) {
+            return results[index];
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Añade un identificador al resultado.
+         */
+        private void add(int id) {
+            if (count == results.length) {
+                results = Arrays.copyOf(results, count * 2);
+                scratch = new int[count * 2];
+            }
+            results[count++] = id;
+        }
+
+        /**
+         * Ordena los resultados. No se usa Arrays.sort porque con más de unas
+         * decenas de resultados reserva memoria auxiliar en cada consulta.
+         */
+        private void sort() {
+            if (count <= INSERTION_SORT_THRESHOLD) {
+                insertionSort();
+            } else {
+                radixSort();
+            }
+        }
+
+        /**
+         * Ordena los resultados por inserción, lo más rápido para pocas
+         * celdas.
+         */
+        private void insertionSort() {
+            for (int i = 1; i < count; i++) {
+                int id = results[i];
+                int j = i - 1;
+                while (j >= 0 && results[j] > id) {
+                    results[j + 1] = results[j];
+                    j--;
+                }
+                results[j + 1] = id;
+            }
+        }
+
+        /**
+         * Ordena los resultados por dígitos, del menos al más significativo,
+         * alternando entre el array de resultados y el auxiliar. Su coste es
+         * lineal en el número de resultados, y se salta los dígitos en los que
+         * todos coinciden.
+         */
+        private void radixSort() {
+            int maxId = 0;
+            for (int i = 0; i < count; i++) {
+                maxId = Math.max(maxId, results[i]);
+            }
+
+            for (int shift = 0; shift < Integer.SIZE && (maxId >>> shift) != 0; shift += RADIX_BITS) {
+                Arrays.fill(bucketCounts, 0);
+                for (int i = 0; i < count; i++) {
+                    bucketCounts[(results[i] >>> shift) & RADIX_MASK]++;
+                }
+                if (bucketCounts[(results[0] >>> shift) & RADIX_MASK] == count) {
+                    continue;
+                }
+
+                // Posición inicial de cada dígito
+                int start = 0;
+                for (int digit = 0; digit < bucketCounts.length; digit++) {
+                    int size = bucketCounts[digit];
+                    bucketCounts[digit] = start;
+                    start += size;
+                }
+                for (int i = 0; i < count; i++) {
+                    int id = results[i];
+                    scratch[bucketCounts[(id >>> shift) & RADIX_MASK]++] = id;
+                }
+
+                int[] sorted = scratch;
+                scratch = results;
+                results = sorted;
+            }
+        }
+    }
+
+    // Resultados a partir de los que se ordena por dígitos en lugar de por inserción
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    // Bits de cada dígito de la ordenación por dígitos
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
+
+    // Capacidad inicial de cada celda
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    // Área cubierta por la rejilla
+    private final float width;
+    private final float height;
+
+    // Dimensiones de la rejilla
+    private float cellSize;
+    private float inverseCellSize;
+    private int columns;
+    private int rows;
+
+    // Identificadores de los objetos de cada celda
+    private int[][] cells;
+    private int[] cellCounts;
+
+    // Rango de celdas ocupado por cada objeto, agrupado de cuatro en cuatro
+    // (columna y fila mínimas y máximas) para leerlo de una vez; la columna
+    // mínima es -1 si el objeto no está insertado
+    private int[] ranges = new int[0];
+
+    // Caja delimitadora de cada objeto, agrupada igual, para descartar los
+    // que no solapan la consulta
+    private float[] boxes = new float[0];
+
+    // Resultado de las consultas hechas sin un Query propio
+    private final Query defaultQuery = new Query();
+
+    /**
+     * Constructor de la rejilla.
+     *
+     * @param width Ancho del área cubierta
+     * @param height Alto del área cubierta
+     * @param cellSize Lado de cada celda
+     */
+    public UniformGrid(float width, float height, float cellSize) {
+        this.width = width;
+        this.height = height;
+        createCells(cellSize);
+    }
+
+    /**
+     * Vacía la rejilla y reserva espacio para el número de objetos indicado.
+     *
+     * @param capacity Número máximo de identificadores (0 a capacity - 1)
+     */
+    public void clear(int capacity) {
+        Arrays.fill(cellCounts, 0);
+        if (ranges.length < capacity * 4) {
+            ranges = new int[capacity * 4];
+            boxes = new float[capacity * 4];
+        }
+        for (int i = 0; i < ranges.length; i += 4) {
+            ranges[i] = -1;
+        }
+    }
+
+    /**
+     * Vacía la rejilla, reserva espacio para el número de objetos indicado y
+     * cambia el lado de las celdas. Las celdas solo se vuelven a crear si el
+     * lado es distinto del actual.
+     *
+     * @param capacity Número máximo de identificadores (0 a capacity - 1)
+     * @param cellSize Nuevo lado de cada celda
+     */
+    public void clear(int capacity, float cellSize) {
+        if (cellSize != this.cellSize) {
+            createCells(cellSize);
+        }
+        clear(capacity);
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Inserta un objeto en las celdas que toca su caja delimitadora.
+     *
+     * @param id Identificador del objeto
+     * @param minX Borde izquierdo
+     * @param minY Borde superior
+     * @param maxX Borde derecho
+     * @param maxY Borde inferior
+     */
+    public void insert(int id, float minX, float minY, float maxX, float maxY) {
+        setBox(id, minX, minY, maxX, maxY);
+        int base = id * 4;
+        ranges[base] = toColumn(minX);
+        ranges[base + 1] = toRow(minY);
+        ranges[base + 2] = toColumn(maxX);
+        ranges[base + 3] = toRow(maxY);
+        addToCells(id);
+    }
+
+    /**
+     * Elimina un objeto de la rejilla. No hace nada si no estaba insertado.
+     *
+     * @param id Identificador del objeto
+     */
+    public void remove(int id) {
+        if (ranges[id * 4] < 0) {
+            return;
+        }
+        removeFromCells(id);
+        ranges[id * 4] = -1;
+    }
+
+    /**
+     * Busca los objetos cuya caja solapa la caja indicada. Los resultados se
+     * devuelven ordenados por identificador y sin repetir, y se leen con
+     * {@link #getResult(int)}. No debe llamarse desde varios hilos a
+     * la vez; para eso está {@link #query(Query, float, float, float, float)}.
+     *
+     * @param minX Borde izquierdo
+     * @param minY Borde superior
+     * @param maxX Borde derecho
+     * @param maxY Borde inferior
+     * @return Número de objetos encontrados
+     */
+    public int query(float minX, float minY, float maxX, float maxY) {
+        return query(defaultQuery, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Busca los objetos cuya caja solapa la caja indicada y los deja en el
+     * resultado indicado, ordenados por identificador y sin repetir. Las cajas
+     * que solo se tocan por el borde cuentan como solapadas. Solo lee la
+     * rejilla, así que puede llamarse desde varios hilos a la vez con un
+     * resultado distinto cada uno.
+     *
+     * @param query Resultado en el que se escriben los objetos encontrados
+     * @param minX Borde izquierdo
+     * @param minY Borde superior
+     * @param maxX Borde derecho
+     * @param maxY Borde inferior
+     * @return Número de objetos encontrados
+     */
+    public int query(Query query, float minX, float minY, float maxX, float maxY) {
+        query.count = 0;
+
+        int fromCol = toColumn(minX);
+        int toCol = toColumn(maxX);
+        int fromRow = toRow(minY);
+        int toRow = toRow(maxY);
+
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+                int cell = row * columns + col;
+                int[] ids = cells[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int id = ids[i];
+                    int base = id * 4;
+
+                    // Un objeto de varias celdas solo se cuenta en la primera que se recorre
+                    if (Math.max(ranges[base], fromCol) != col || Math.max(ranges[base + 1], fromRow) != row) {
+                        continue;
+                    }
+                    if (boxes[base] <= maxX && minX <= boxes[base + 2]
+                            && boxes[base + 1] <= maxY && minY <= boxes[base + 3]) {
+                        query.add(id);
+                    }
+                }
+            }
+        }
+
+        // Se ordena para conservar el orden de los ladrillos en el nivel
+        query.sort();
+        return query.count;
+    }
+
+    /**
+     * Obtiene un resultado de la última consulta hecha sin un Query propio.
+     *
+     * @param index Posición del resultado (0 a count - 1)
+     * @return Identificador del objeto
+     */
+    public int getResult(int index) {
+        return defaultQuery.getResult(index);
+    }
+
+    /**
+     * Crea celdas vacías del lado indicado que cubren toda el área.
+     */
+    private void createCells(float cellSize) {
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new int[columns * rows][INITIAL_CELL_CAPACITY];
+        this.cellCounts = new int[columns * rows];
+    }
+
+    /**
+     * Guarda la caja delimitadora de un objeto.
+     */
+    private void setBox(int id, float minX, float minY, float maxX, float maxY) {
+        int base = id * 4;
+        boxes[base] = minX;
+        boxes[base + 1] = minY;
+        boxes[base + 2] = maxX;
+        boxes[base + 3] = maxY;
+    }
+
+    /**
+     * Añade el objeto a todas las celdas de su rango.
+     */
+    private void addToCells(int id) {
+        int base = id * 4;
+        for (int row = ranges[base + 1]; row <= ranges[base + 3]; row++) {
+            for (int col = ranges[base]; col <= ranges[base + 2]; col++) {
+                int cell = row * columns + col;
+                int count = cellCounts[cell];
+                if (count == cells[cell].length) {
+                    cells[cell] = Arrays.copyOf(cells[cell], count * 2);
+                }
+                cells[cell][count] = id;
+                cellCounts[cell] = count + 1;
+            }
+        }
+    }
+
+    /**
+     * Quita el objeto de todas las celdas de su rango.
+     */
+    private void removeFromCells(int id) {
+        int base = id * 4;
+        for (int row = ranges[base + 1]; row <= ranges[base + 3]; row++) {
+            for (int col = ranges[base]; col <= ranges[base + 2]; col++) {
+                int cell = row * columns + col;
+                int[] ids = cells[cell];
+                int count = cellCounts[cell];
+                for (int i = 0; i < count; i++) {
+                    if (ids[i] == id) {
+                        // Se sustituye por el último para no desplazar el resto
+                        ids[i] = ids[count - 1];
+                        cellCounts[cell] = count - 1;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Convierte una coordenada X en columna, limitada a la rejilla. Las
+     * coordenadas negativas van a la primera columna, así que basta truncar
+     * en lugar de redondear hacia abajo.
+     */
+    private int toColumn(float x) {
+        if (x < 0f) {
+            return 0;
+        }
+        return Math.min(columns - 1, (int) (x * inverseCellSize));
+    }
+
+    /**
+     * Convierte una coordenada Y en fila, limitada a la rejilla.
+     */
+    private int toRow(float y) {
+        if (y < 0f) {
+            return 0;
+        }
+        return Math.min(rows - 1, (int) (y * inverseCellSize));
+    }
+}
@@ -0,0 +1,177 @@
+package object_fight.game;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.collisions.SweptCollision;
+import object_fight.collisions.UniformGrid;
+import object_fight.gameobjects.Ball;
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.gameobjects.bricks.BrickType;
+
+import static object_fight.utils.Constants.MAX_BALL_IMPACTS_PER_TICK;
+import static object_fight.utils.Constants.SWEEP_SKIN;
+
+/**
+ * Barrido de una bola contra los ladrillos durante un tick. Mueve la bola
+ * impacto a impacto y apunta los ladrillos golpeados, pero no les aplica daño:
+ * solo lee los ladrillos y la rejilla, de modo que los barridos de varias
+ * bolas pueden ejecutarse en paralelo, cada uno con su propia instancia.
+ * {@code Game} aplica después los golpes apuntados en un orden fijo.
+ *
+ * Dentro de su propio barrido la bola sí tiene en cuenta sus golpes: un
+ * ladrillo que ella misma ya ha destruido en este tick deja de existir para
+ * ella, igual que cuando el daño se aplicaba en el momento del impacto.
+ */
+class BallSweep {
+
+    // Detección continua y resultado de la consulta a la rejilla, propios del barrido
+    private final SweptCollision sweep = new SweptCollision();
+    private final UniformGrid.Query query = new UniformGrid.Query();
+
+    // Datos del impacto más temprano encontrado
+    private float impactTime;
+    private float impactNormalX;
+    private float impactNormalY;
+
+    // Ladrillos golpeados en este tick, en orden
+    private final int[] hits = new int[MAX_BALL_IMPACTS_PER_TICK];
+    private int hitCount;
+
+    // Pruebas de la fase estrecha realizadas en este tick
+    private int collisionsTested;
+
+    /**
+     * Mueve la bola a lo largo de su desplazamiento del tick calculando el
+     * instante de impacto con cada ladrillo. Se resuelve primero el impacto más
+     * temprano, se refleja la velocidad y se continúa con el desplazamiento
+     * restante, de modo que la bola no atraviesa ladrillos a alta velocidad y
+     * no invierte su dirección dos veces por tocar dos ladrillos a la vez.
+     *
+     * Si se agotan los impactos del tick, la bola recorre el desplazamiento
+     * que le queda con la última velocidad reflejada, pero se detiene en el
+     * siguiente contacto sin rebotar ni golpear el ladrillo: así no pierde
+     * distancia en las esquinas y tampoco puede atravesar nada.
+     *
+     * @param ball Bola a mover
+     * @param bricks Ladrillos del nivel, que no se modifican
+     * @param grid Rejilla de la fase amplia, que no se modifica
+     */
+    void run(Ball ball, BrickField bricks, UniformGrid grid) {
+        hitCount = 0;
+        collisionsTested = 0;
+        float remaining = 1f;
+
+        for (int impact = 0; impact < MAX_BALL_IMPACTS_PER_TICK && remaining > 0f; impact++) {
+            float dx = ball.getVelocityX() * remaining;
+            float dy = ball.getVelocityY() * remaining;
+            int hitIndex = findFirstImpact(ball, bricks, grid, dx, dy);
+
+            if (hitIndex < 0) {
+                ball.advance(dx, dy);
+                return;
+            }
+
+            // Se avanza hasta el punto de contacto y se separa ligeramente del ladrillo
+            float time = impactTime;
+            ball.advance(dx * time + impactNormalX * SWEEP_SKIN, dy * time + impactNormalY * SWEEP_SKIN);
+            ball.bounce(impactNormalX, impactNormalY);
+            hits[hitCount++] = hitIndex;
+
+            remaining *= 1f - time;
+        }
+
+        if (remaining > 0f) {
+            float dx = ball.getVelocityX() * remaining;
+            float dy = ball.getVelocityY() * remaining;
+            if (findFirstImpact(ball, bricks, grid, dx, dy) < 0) {
+                ball.advance(dx, dy);
+            } else {
+                ball.advance(dx * impactTime + impactNormalX * SWEEP_SKIN,
+                        dy * impactTime + impactNormalY * SWEEP_SKIN);
+            }
+        }
+    }
+
+    /**
+     * Busca el ladrillo con el que la bola impacta antes durante el
+     * desplazamiento indicado. Solo se consultan los ladrillos de las celdas
+     * que cubre la caja del barrido.
+     *
+     * @return Índice del ladrillo impactado, o -1 si no hay impacto
+     */
+    private int findFirstImpact(Ball ball, BrickField bricks, UniformGrid grid, float dx, float dy) {
+        float centerX = ball.getCenterX();
+        float centerY = ball.getCenterY();
+        float radius = ball.getRadius();
+
+        int candidates = grid.query(query,
+                Math.min(centerX, centerX + dx) - radius, Math.min(centerY, centerY + dy) - radius,
+                Math.max(centerX, centerX + dx) + radius, Math.max(centerY, centerY + dy) + radius);
+
+        int hitIndex = -1;
+        impactTime = Float.MAX_VALUE;
+
+        for (int c = 0; c < candidates; c++) {
+            int index = query.getResult(c);
+            if (!bricks.isAlive(index) || isDestroyedByThisBall(bricks, index)) {
+                continue;
+            }
+
+            collisionsTested++;
+            boolean hit = sweep.sweepCircleBox(centerX, centerY, radius, dx, dy,
+                    bricks.getX(index), bricks.getY(index),
+                    bricks.getX(index) + bricks.getWidth(index), bricks.getY(index) + bricks.getHeight(index));
+
+            // Los resultados de la rejilla están ordenados, así que a igual tiempo gana el índice menor
+            if (hit && sweep.getTime() < impactTime) {
+                hitIndex = index;
+                impactTime = sweep.getTime();
+                impactNormalX = sweep.getNormalX();
+                impactNormalY = sweep.getNormalY();
+            }
+        }
+        return hitIndex;
+    }
+
+    /**
+     * Indica si los golpes de esta bola en el tick actual bastan para destruir
+     * el ladrillo.
+     */
+    private boolean isDestroyedByThisBall(BrickField bricks, int index) {
+        if (hitCount == 0 || bricks.getType(index) == BrickType.UNBREAKABLE) {
+            return false;
+        }
+
+        int ownHits = 0;
+        for (int i = 0; i < hitCount; i++) {
+            if (hits[i] == index) {
+                ownHits++;
+            }
+        }
+        return ownHits >= bricks.getHitsRemaining(index);
+    }
+
+    // Getters
+    int getHitCount() {
+        return hitCount;
+    }
+
+    int getHit(int index) {
+        return hits[index];
+    }
+
+    int getCollisionsTested() {
+        return collisionsTested;
+    }
+
+    /**
+     * Descarta los golpes apuntados, para las bolas que no se barren en este
+     * tick.
+     */
+    void clear() {
+        hitCount = 0;
+        collisionsTested = 0;
+    }
+}
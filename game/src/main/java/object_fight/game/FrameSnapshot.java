@@ -0,0 +1,275 @@
+package object_fight.game;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.gameobjects.Ball;
+import object_fight.gameobjects.Paddle;
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.gameobjects.bricks.BrickType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Copia compacta del estado renderizable de una partida en un instante dado.
+ * El hilo del juego la rellena al terminar los ticks de un frame y el
+ * renderizado la lee sin tocar los objetos vivos, de modo que nunca ve un
+ * estado a medio actualizar.
+ *
+ * Los arrays de bolas y ladrillos se reutilizan entre frames y solo crecen
+ * cuando la partida tiene más bolas o ladrillos que los reservados.
+ */
+public class FrameSnapshot {
+
+    // Indica si la instantánea contiene algún estado capturado
+    private boolean valid;
+
+    // Factor de interpolación entre el tick anterior y el actual
+    private float interpolation;
+
+    // Bolas en juego
+    private int ballCount;
+    private float[] ballX = new float[1];
+    private float[] ballY = new float[1];
+    private float[] ballPreviousX = new float[1];
+    private float[] ballPreviousY = new float[1];
+    private int[] ballWidth = new int[1];
+    private int[] ballHeight = new int[1];
+
+    // Estado de la paleta
+    private float paddleX;
+    private float paddleY;
+    private float paddlePreviousX;
+    private float paddlePreviousY;
+    private int paddleWidth;
+    private int paddleHeight;
+
+    // Ladrillos vivos
+    private int brickCount;
+    private float[] brickX = new float[0];
+    private float[] brickY = new float[0];
+    private float[] brickPreviousX = new float[0];
+    private float[] brickPreviousY = new float[0];
+    private int[] brickWidth = new int[0];
+    private int[] brickHeight = new int[0];
+    private int[] brickHits = new int[0];
+    private BrickType[] brickType = new BrickType[0];
+
+    // Versión de los ladrillos estáticos en el momento de la captura
+    private long staticBricksVersion;
+
+    // Información de la partida
+    private int lives;
+    private int score;
+    private int currentLevel;
+
+    /**
+     * Copia el estado renderizable de la partida. Debe llamarse desde el hilo
+     * del juego.
+     *
+     * @param game Partida de la que se copia el estado
+     * @param interpolation Factor de interpolación del frame
+     */
+    public void capture(Game game, float interpolation) {
+        this.interpolation = interpolation;
+
+        captureBalls(game.getBalls());
+
+        Paddle paddle = game.getPaddle();
+        paddleX = paddle.getX();
+        paddleY = paddle.getY();
+        paddlePreviousX = paddle.getPreviousX();
+        paddlePreviousY = paddle.getPreviousY();
+        paddleWidth = paddle.getWidth();
+        paddleHeight = paddle.getHeight();
+
+        captureBricks(game.getBricks());
+
+        lives = game.getLives();
+        score = game.getScore();
+        currentLevel = game.getCurrentLevel();
+        valid = true;
+    }
+
+    /**
+     * Copia las bolas de la partida.
+     *
+     * @param balls Bolas de la partida, la principal primero
+     */
+    private void captureBalls(List<Ball> balls) {
+        ballCount = balls.size();
+        if (ballX.length < ballCount) {
+            ballX = Arrays.copyOf(ballX, ballCount);
+            ballY = Arrays.copyOf(ballY, ballCount);
+            ballPreviousX = Arrays.copyOf(ballPreviousX, ballCount);
+            ballPreviousY = Arrays.copyOf(ballPreviousY, ballCount);
+            ballWidth = Arrays.copyOf(ballWidth, ballCount);
+            ballHeight = Arrays.copyOf(ballHeight, ballCount);
+        }
+
+        for (int i = 0; i < ballCount; i++) {
+            Ball ball = balls.get(i);
+            ballX[i] = ball.getX();
+            ballY[i] = ball.getY();
+            ballPreviousX[i] = ball.getPreviousX();
+            ballPreviousY[i] = ball.getPreviousY();
+            ballWidth[i] = ball.getWidth();
+            ballHeight[i] = ball.getHeight();
+        }
+    }
+
+    /**
+     * Copia los ladrillos vivos de la partida.
+     *
+     * @param bricks Ladrillos del nivel actual
+     */
+    private void captureBricks(BrickField bricks) {
+        brickCount = 0;
+        staticBricksVersion = bricks.getStaticVersion();
+
+        ensureBrickCapacity(bricks.size());
+        for (int index = 0; index < bricks.size(); index++) {
+            if (bricks.isAlive(index)) {
+                int i = brickCount++;
+                brickX[i] = bricks.getX(index);
+                brickY[i] = bricks.getY(index);
+                brickPreviousX[i] = bricks.getPreviousX(index);
+                brickPreviousY[i] = bricks.getPreviousY(index);
+                brickWidth[i] = (int) bricks.getWidth(index);
+                brickHeight[i] = (int) bricks.getHeight(index);
+                brickType[i] = bricks.getType(index);
+                brickHits[i] = bricks.getHitsRemaining(index);
+            }
+        }
+    }
+
+    /**
+     * Asegura que los arrays de ladrillos tienen al menos la capacidad
+     * indicada.
+     *
+     * @param capacity Número de ladrillos a almacenar
+     */
+    private void ensureBrickCapacity(int capacity) {
+        if (brickX.length >= capacity) {
+            return;
+        }
+        brickX = Arrays.copyOf(brickX, capacity);
+        brickY = Arrays.copyOf(brickY, capacity);
+        brickPreviousX = Arrays.copyOf(brickPreviousX, capacity);
+        brickPreviousY = Arrays.copyOf(brickPreviousY, capacity);
+        brickWidth = Arrays.copyOf(brickWidth, capacity);
+        brickHeight = Arrays.copyOf(brickHeight, capacity);
+        brickHits = Arrays.copyOf(brickHits, capacity);
+        brickType = Arrays.copyOf(brickType, capacity);
+    }
+
+    /**
+     * Interpola entre la posición anterior y la actual con el factor de la
+     * instantánea.
+     *
+     * @param previous Valor en el tick anterior
+     * @param current Valor en el tick actual
+     * @return Valor interpolado redondeado a píxel
+     */
+    private int interpolate(float previous, float current) {
+        return (int) (previous + (current - previous) * interpolation);
+    }
+
+    // Getters de las bolas
+    public int getBallCount() {
+        return ballCount;
+    }
+
+    public int getBallRenderX(int index) {
+        return interpolate(ballPreviousX[index], ballX[index]);
+    }
+
+    public int getBallRenderY(int index) {
+        return interpolate(ballPreviousY[index], ballY[index]);
+    }
+
+    public int getBallWidth(int index) {
+        return ballWidth[index];
+    }
+
+    public int getBallHeight(int index) {
+        return ballHeight[index];
+    }
+
+    // Getters de la paleta
+    public int getPaddleRenderX() {
+        return interpolate(paddlePreviousX, paddleX);
+    }
+
+    public int getPaddleRenderY() {
+        return interpolate(paddlePreviousY, paddleY);
+    }
+
+    public int getPaddleWidth() {
+        return paddleWidth;
+    }
+
+    public int getPaddleHeight() {
+        return paddleHeight;
+    }
+
+    // Getters de los ladrillos
+    public int getBrickCount() {
+        return brickCount;
+    }
+
+    public int getBrickRenderX(int index) {
+        return interpolate(brickPreviousX[index], brickX[index]);
+    }
+
+    public int getBrickRenderY(int index) {
+        return interpolate(brickPreviousY[index], brickY[index]);
+    }
+
+    public int getBrickWidth(int index) {
+        return brickWidth[index];
+    }
+
+    public int getBrickHeight(int index) {
+        return brickHeight[index];
+    }
+
+    public int getBrickHits(int index) {
+        return brickHits[index];
+    }
+
+    public BrickType getBrickType(int index) {
+        return brickType[index];
+    }
+
+    public boolean isBrickMovable(int index) {
+        return brickType[index] == BrickType.MOVABLE;
+    }
+
+    public long getStaticBricksVersion() {
+        return staticBricksVersion;
+    }
+
+    // Getters de la partida
+    public boolean isValid() {
+        return valid;
+    }
+
+    public float getInterpolation() {
+        return interpolation;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+}
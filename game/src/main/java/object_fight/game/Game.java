@@ -0,0 +1,783 @@
+package object_fight.game;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.collisions.UniformGrid;
+import object_fight.gameobjects.Ball;
+import object_fight.gameobjects.Paddle;
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.gameobjects.bricks.BrickType;
+import object_fight.levels.LevelPack;
+import object_fight.levels.LevelSource;
+import object_fight.profiling.BrickCollisionEvent;
+import object_fight.profiling.FramePhase;
+import object_fight.profiling.FrameProfiler;
+import object_fight.profiling.LevelTransitionEvent;
+import object_fight.profiling.LifeLostEvent;
+import object_fight.profiling.SoundPlayEvent;
+import object_fight.profiling.TickEvent;
+import object_fight.utils.PlayfieldConfig;
+import object_fight.utils.SoundOutput;
+import object_fight.utils.Vector2D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Clase principal que gestiona toda la lógica del juego. Controla la
+ * actualización de objetos, colisiones, niveles y estado general del juego.
+ * Implementa un sistema de puntuación, vidas y progresión de niveles.
+ *
+ * Incluye listeners para actualizar el estado del juego y notificar eventos.
+ * Puede haber varias bolas en juego a la vez (multibola); la primera es la
+ * que se pega a la paleta y la que se recoloca al perder una vida.
+ * No necesita pantalla ni audio: las dimensiones del tablero se reciben en un
+ * {@link PlayfieldConfig} y los sonidos salen por un {@link SoundOutput}, que
+ * por defecto no reproduce nada, por lo que puede simularse sin pantalla. Los
+ * objetos del juego usan clases de AWT para dibujarse, pero la simulación
+ * nunca los dibuja.
+ */
+public class Game {
+
+    // Configuración del área de juego
+    private final PlayfieldConfig playfield;
+
+    // Niveles de la partida
+    private final LevelSource levels;
+
+    // Generador aleatorio propio de la partida y su semilla
+    private final long seed;
+    private final RandomGenerator random;
+
+    // Objetos principales del juego
+    private final List<Ball> balls = new ArrayList<>();
+    private Paddle paddle;
+    private final BrickField bricks = new BrickField(BRICK_FIELD_INITIAL_CAPACITY);
+
+    // Rejilla de la fase amplia de colisiones, indexada por la posición en bricks
+    private final UniformGrid brickGrid;
+
+    // Barrido de cada bola en el tick actual (se reutilizan entre ticks)
+    private final List<BallSweep> sweeps = new ArrayList<>();
+    private final IntConsumer sweepTask = this::sweepBall;
+
+    // Progreso del juego
+    private int score;
+    private int lives;
+    private int currentLevel;
+
+    // Aviso de nivel completado, se levanta al destruir el último ladrillo rompible
+    private boolean levelCleared;
+
+    // Estado del juego
+    private boolean isRunning;
+    private boolean gameOver;
+    private boolean gameWon;
+
+    // Listener para eventos del juego
+    private GameListener listener;
+
+    // Cola de entrada que se vacía al inicio de cada tick
+    private final InputQueue inputQueue = new InputQueue();
+    private final InputQueue.InputHandler inputHandler = this::applyInput;
+
+    // Perfilador de las fases del tick (desactivado por defecto)
+    private FrameProfiler profiler = FrameProfiler.DISABLED;
+
+    // Salida de los sonidos (silenciosa por defecto) y efectos pedidos en el
+    // tick en curso, un bit por efecto
+    private SoundOutput sounds = SoundOutput.SILENT;
+    private long pendingSounds;
+
+    // Contadores del tick en curso para el evento de JFR
+    private int collisionsTested;
+    private int impactsResolved;
+
+    /**
+     * Constructor del juego. Inicializa el juego con una semilla aleatoria.
+     *
+     * @param playfield Configuración del área de juego
+     */
+    public Game(PlayfieldConfig playfield) {
+        this(playfield, System.nanoTime());
+    }
+
+    /**
+     * Constructor del juego. Inicializa el juego con una semilla concreta:
+     * todas las decisiones aleatorias de la partida salen de un generador
+     * propio, por lo que la misma semilla reproduce la misma partida.
+     *
+     * @param playfield Configuración del área de juego
+     * @param seed Semilla del generador aleatorio de la partida
+     */
+    public Game(PlayfieldConfig playfield, long seed) {
+        this(playfield, seed, LevelPack.getDefault());
+    }
+
+    /**
+     * Constructor del juego. Inicializa el juego con una semilla y un origen
+     * de niveles concretos.
+     *
+     * @param playfield Configuración del área de juego
+     * @param seed Semilla del generador aleatorio de la partida
+     * @param levels Origen de los niveles que se juegan
+     */
+    public Game(PlayfieldConfig playfield, long seed, LevelSource levels) {
+        this.playfield = playfield;
+        this.levels = levels;
+        this.seed = seed;
+        this.random = RandomGeneratorFactory.of(GAME_RANDOM_ALGORITHM).create(seed);
+        this.brickGrid = new UniformGrid(playfield.getWidth(), playfield.getHeight(), BROADPHASE_MAX_CELL_SIZE);
+        initGame();
+    }
+
+    /**
+     * Inicializa el estado del juego con los valores por defecto.
+     */
+    private void initGame() {
+        score = 0;
+        lives = GAME_INITIAL_LIVES;
+        currentLevel = 1;
+        isRunning = false;
+        gameOver = false;
+        gameWon = false;
+
+        createGameObjects();
+    }
+
+    /**
+     * Crea o reinicia los objetos principales del juego: la bola, el paddle y
+     * los ladrillos.
+     */
+    private void createGameObjects() {
+        int width = playfield.getWidth();
+        int height = playfield.getHeight();
+
+        if (paddle == null) {
+            paddle = new Paddle(new Vector2D(width / 2, height - 50), 0, playfield);
+        } else {
+            paddle.setPosition(new Vector2D(width / 2, height - 50));
+        }
+
+        if (balls.isEmpty()) {
+            balls.add(new Ball(new Vector2D(width / 2, height / 2), 0, playfield, random));
+        } else {
+            removeExtraBalls();
+            getBall().resetBallPosition();
+        }
+
+        createBricks();
+    }
+
+    /**
+     * Crea la disposición de ladrillos del nivel actual a partir del origen de
+     * niveles y aplica sus opciones.
+     */
+    private void createBricks() {
+        levels.loadLevel(currentLevel, bricks, playfield);
+        paddle.enableResizing(levels.isPaddleResize(currentLevel));
+
+        rebuildBrickGrid();
+
+        // Un nivel sin ladrillos rompibles se da por completado
+        levelCleared = bricks.isCleared();
+    }
+
+    /**
+     * Vuelve a construir la rejilla de colisiones con los ladrillos vivos del
+     * nivel actual, con celdas del tamaño de sus ladrillos. Los ladrillos
+     * móviles se insertan con la caja de todo su recorrido, de modo que la
+     * rejilla no cambia mientras se mueven y solo hay que quitar de ella los
+     * ladrillos destruidos.
+     */
+    private void rebuildBrickGrid() {
+        brickGrid.clear(bricks.size(), brickCellSize(bricks));
+        for (int i = 0; i < bricks.size(); i++) {
+            if (bricks.isAlive(i) && !bricks.isMovable(i)) {
+                brickGrid.insert(i, bricks.getX(i), bricks.getY(i),
+                        bricks.getX(i) + bricks.getWidth(i), bricks.getY(i) + bricks.getHeight(i));
+            }
+        }
+        for (int slot = 0; slot < bricks.getMovableCount(); slot++) {
+            int i = bricks.getMovableIndex(slot);
+            if (bricks.isAlive(i)) {
+                brickGrid.insert(i, bricks.getMovableMinX(slot), bricks.getY(i),
+                        bricks.getMovableMaxX(slot), bricks.getY(i) + bricks.getHeight(i));
+            }
+        }
+    }
+
+    /**
+     * Calcula el lado de las celdas de la rejilla de colisiones para unos
+     * ladrillos: su tamaño medio, limitado entre
+     * {@code BROADPHASE_MIN_CELL_SIZE} y {@code BROADPHASE_MAX_CELL_SIZE}. Si
+     * no queda ningún ladrillo vivo se usa el máximo.
+     *
+     * @param bricks Ladrillos que se insertan en la rejilla
+     * @return Lado de las celdas
+     */
+    public static float brickCellSize(BrickField bricks) {
+        float size = bricks.getAverageSize();
+        if (size <= 0f) {
+            return BROADPHASE_MAX_CELL_SIZE;
+        }
+        return Math.clamp(size, BROADPHASE_MIN_CELL_SIZE, BROADPHASE_MAX_CELL_SIZE);
+    }
+
+    /**
+     * Actualiza el estado de todos los elementos del juego. Solo actualiza si
+     * el juego está en ejecución y no ha terminado. Cada tick se registra como
+     * un {@link TickEvent} si JFR está grabando.
+     */
+    public void update() {
+        if (!isRunning || gameOver) {
+            return;
+        }
+
+        // El evento solo se crea si JFR lo está grabando
+        TickEvent tickEvent = TickEvent.isRecording() ? new TickEvent() : null;
+        if (tickEvent != null) {
+            tickEvent.begin();
+        }
+        collisionsTested = 0;
+        impactsResolved = 0;
+
+        long phaseStart = System.nanoTime();
+
+        // Se aplican las entradas recibidas desde el último tick
+        inputQueue.drain(inputHandler);
+        phaseStart = profiler.recordSince(FramePhase.INPUT, phaseStart);
+
+        // Se guarda el estado del tick anterior para interpolar el renderizado
+        savePreviousPositions();
+
+        paddle.update();
+        for (int i = 0; i < balls.size(); i++) {
+            balls.get(i).update(paddle);
+        }
+
+        bricks.update();
+
+        long updateNanos = System.nanoTime() - phaseStart;
+
+        // Se comprueba las colisiones
+        phaseStart += updateNanos;
+        checkCollisions();
+        phaseStart = profiler.recordSince(FramePhase.COLLISIONS, phaseStart);
+
+        // Se comprueba el estado de la partida
+        checkGameState();
+        long soundStart = System.nanoTime();
+        profiler.record(FramePhase.UPDATE, updateNanos + soundStart - phaseStart);
+
+        // Se envían los sonidos pedidos en este tick, uno por efecto
+        sounds.flushSounds(pendingSounds);
+        pendingSounds = 0;
+        profiler.recordSince(FramePhase.SOUND, soundStart);
+
+        if (tickEvent != null && tickEvent.shouldCommit()) {
+            tickEvent.level = currentLevel;
+            tickEvent.bricksAlive = bricks.getBreakableAliveCount();
+            tickEvent.collisionsTested = collisionsTested;
+            tickEvent.impacts = impactsResolved;
+            tickEvent.commit();
+        }
+    }
+
+    // --- MÉTODOS DE ENTRADA ---
+    /**
+     * Encola una acción del jugador para aplicarla al inicio del siguiente
+     * tick. Puede llamarse desde el hilo de eventos de Swing sin bloquear al
+     * hilo del juego.
+     *
+     * @param action Acción realizada por el jugador
+     */
+    public void submitInput(InputAction action) {
+        inputQueue.offer(action);
+    }
+
+    /**
+     * Aplica una acción del jugador sobre la paleta o la bola. Se ejecuta en
+     * el hilo del juego, entre ticks.
+     *
+     * @param action Acción a aplicar
+     */
+    private void applyInput(InputAction action) {
+        switch (action) {
+            case MOVE_LEFT ->
+                    paddle.moveLeft();
+            case MOVE_RIGHT ->
+                    paddle.moveRight();
+            case STOP ->
+                    paddle.stop();
+            case LAUNCH -> {
+                if (getBall().isStuckToPaddle()) {
+                    getBall().launchBall();
+                }
+            }
+        }
+    }
+
+    /**
+     * Guarda la posición actual de todos los objetos como la del tick
+     * anterior.
+     */
+    private void savePreviousPositions() {
+        paddle.savePreviousPosition();
+        for (int i = 0; i < balls.size(); i++) {
+            balls.get(i).savePreviousPosition();
+        }
+        bricks.savePreviousPositions();
+    }
+
+    // --- MÉTODOS DE COMPROBACIÓN ---
+    /**
+     * Verifica y maneja todas las colisiones entre objetos del juego. Es
+     * visible dentro del paquete para poder medirla por separado en los
+     * benchmarks.
+     *
+     * Primero cada bola en juego se desplaza impacto a impacto contra los
+     * ladrillos tal como estaban al empezar la fase; los barridos solo leen
+     * los ladrillos, así que con muchas bolas se ejecutan en paralelo. Después,
+     * en el hilo del juego y en orden de bola y de impacto, se aplican los
+     * golpes y se comprueban los límites y la paleta. El resultado no depende
+     * del reparto entre hilos: si dos bolas golpean el mismo ladrillo en un
+     * tick, siempre recibe antes el golpe la bola de menor índice.
+     */
+    void checkCollisions() {
+        int ballCount = balls.size();
+        while (sweeps.size() < ballCount) {
+            sweeps.add(new BallSweep());
+        }
+
+        // Fase de barrido, en paralelo solo cuando compensa repartir el trabajo
+        if (ballCount >= PARALLEL_SWEEP_MIN_BALLS) {
+            IntStream.range(0, ballCount).parallel().forEach(sweepTask);
+        } else {
+            for (int i = 0; i < ballCount; i++) {
+                sweepBall(i);
+            }
+        }
+
+        // Fase de resolución, secuencial y en orden
+        for (int i = 0; i < ballCount; i++) {
+            Ball ball = balls.get(i);
+            BallSweep sweep = sweeps.get(i);
+
+            collisionsTested += sweep.getCollisionsTested();
+            impactsResolved += sweep.getHitCount();
+            for (int h = 0; h < sweep.getHitCount(); h++) {
+                hitBrick(sweep.getHit(h));
+            }
+
+            if (ball.checkBounds()) {
+                requestSound("ballCollision");
+            }
+
+            // Colisión bola - paddle
+            if (ball.collidesWith(paddle)) {
+                ball.handleCollision(paddle);
+                requestSound("ballCollision");
+            }
+        }
+    }
+
+    /**
+     * Barre la bola indicada contra los ladrillos si está en juego. Puede
+     * ejecutarse a la vez para bolas distintas.
+     *
+     * @param index Índice de la bola
+     */
+    private void sweepBall(int index) {
+        Ball ball = balls.get(index);
+        BallSweep sweep = sweeps.get(index);
+
+        if (!ball.isStuckToPaddle() && ball.isAlive()) {
+            sweep.run(ball, bricks, brickGrid);
+        } else {
+            sweep.clear();
+        }
+    }
+
+    /**
+     * Aplica el golpe de la bola sobre un ladrillo: daño, puntuación, sonido y
+     * retirada de la rejilla si queda destruido. Si otra bola ya lo ha
+     * destruido en este tick, el golpe no tiene efecto.
+     *
+     * @param index Índice del ladrillo golpeado
+     */
+    private void hitBrick(int index) {
+        if (!bricks.isAlive(index)) {
+            return;
+        }
+
+        // Los ladrillos irrompibles no reaccionan a las colisiones
+        if (bricks.getType(index) == BrickType.UNBREAKABLE) {
+            requestSound("ballCollision"); // Simplemente se reproduce el sonido de colisión de la bola
+            commitBrickCollision(index, false);
+            return;
+        }
+
+        // Se incrementa el score con todos los tipos de bricks excepto el brick irrompible
+        requestSound("breakBrick"); // Se reproduce el sonido de destruir un brick
+        score += GAME_POINTS_PER_BRICK;
+
+        // Los ladrillos destruidos dejan de consultarse
+        boolean destroyed = bricks.hit(index);
+        if (destroyed) {
+            brickGrid.remove(index);
+
+            // Se avisa de que el nivel está completo al caer el último ladrillo rompible
+            if (bricks.isCleared()) {
+                levelCleared = true;
+            }
+        }
+        commitBrickCollision(index, destroyed);
+    }
+
+    /**
+     * Pide un efecto de sonido para el final del tick. Si ya se había pedido
+     * en este tick, la petición se agrupa con la anterior. Cada petición se
+     * registra como un {@link SoundPlayEvent} si JFR está grabando.
+     *
+     * @param name Nombre del sonido
+     */
+    private void requestSound(String name) {
+        SoundPlayEvent event = SoundPlayEvent.isRecording() ? new SoundPlayEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        long effect = sounds.getEffectMask(name);
+        boolean coalesced = (pendingSounds & effect) != 0;
+        pendingSounds |= effect;
+
+        if (event != null && event.shouldCommit()) {
+            event.name = name;
+            event.found = effect != 0;
+            event.coalesced = coalesced;
+            event.commit();
+        }
+    }
+
+    /**
+     * Crea y emite el evento de JFR de un golpe sobre un ladrillo si se está
+     * grabando.
+     */
+    private void commitBrickCollision(int index, boolean destroyed) {
+        if (!BrickCollisionEvent.isRecording()) {
+            return;
+        }
+
+        BrickCollisionEvent event = new BrickCollisionEvent();
+        if (event.shouldCommit()) {
+            event.brickType = bricks.getType(index).name();
+            event.brickIndex = index;
+            event.x = bricks.getX(index);
+            event.y = bricks.getY(index);
+            event.destroyed = destroyed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Verifica el estado actual del juego y maneja condiciones de victoria o
+     * derrota. Actualiza las vidas del jugador si pierde la bola, y verifica si
+     * se ha completado el nivel. Maneja la transición al siguiente nivel o el
+     * fin del juego en caso de victoria o derrota.
+     */
+    private void checkGameState() {
+        // Se retiran las bolas perdidas; la vida solo se pierde al caer la última
+        removeLostBalls();
+        Ball ball = getBall();
+
+        // Se verifica si la bola ya no está activa
+        if (!ball.isAlive()) {
+            lives--; // Se reduce las vidas restantes
+            ball.setStuckToPaddle(true); // Se vuelve a colocar la bola sobre el paddle
+
+            if (LifeLostEvent.isRecording()) {
+                LifeLostEvent lifeLostEvent = new LifeLostEvent();
+                if (lifeLostEvent.shouldCommit()) {
+                    lifeLostEvent.level = currentLevel;
+                    lifeLostEvent.remainingLives = lives;
+                    lifeLostEvent.commit();
+                }
+            }
+
+            // Se notifica la pérdida de una vida al GameListener
+            if (listener != null) {
+                listener.onLifeLost(lives);
+            }
+
+            // Se verifica si el jugador se ha quedado sin vidas
+            if (lives <= 0) {
+                gameOver(); // Se termina la partida
+            } else {
+                // Se reinicia la posición y velocidad de la bola para continuar el juego
+                ball.resetBallPosition();
+                ball.resetBallVelocity();
+                ball.setAlive(true);
+            }
+            return; // Se sale del método ya que no es necesario seguir verificando
+        }
+
+        // Se verifica si el juego está en curso y el nivel está completo
+        if (isRunning && isLevelCompleted()) {
+            if (currentLevel == levels.getLevelCount()) {
+                gameWon(); // Se marca el juego como ganado si es el último nivel
+            } else {
+                // Se avanza al siguiente nivel
+                currentLevel++;
+                startNextLevel();
+                getBall().setStuckToPaddle(true); // Se vuelve a colocar la bola sobre el paddle
+
+                // Se notifica la finalización del nivel actual al GameListener
+                if (listener != null) {
+                    listener.onLevelCompleted(currentLevel);
+                }
+            }
+        }
+    }
+
+    // --- MÉTODOS DEL ESTADO DE LA PARTIDA ---
+    /**
+     * Maneja el estado de fin de juego por derrota.
+     */
+    private void gameOver() {
+        isRunning = false;
+        gameOver = true;
+        if (listener != null) {
+            listener.onGameOver();
+        }
+    }
+
+    /**
+     * Maneja el estado de victoria del juego.
+     */
+    private void gameWon() {
+        isRunning = false;
+        gameWon = true;
+        if (listener != null) {
+            listener.onGameWon();
+        }
+    }
+
+    /**
+     * Prepara y configura el siguiente nivel del juego. La preparación se
+     * registra como un {@link LevelTransitionEvent} si JFR está grabando.
+     */
+    private void startNextLevel() {
+        LevelTransitionEvent event = LevelTransitionEvent.isRecording() ? new LevelTransitionEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        paddle.reduceSize((currentLevel - 1) * GAME_PADDLE_REDUCTION_PER_LEVEL);
+        removeExtraBalls();
+        Ball ball = getBall();
+        ball.resetBallPosition();
+        ball.resetBallVelocity();
+        ball.setAlive(true);
+
+        createBricks();
+        isRunning = true;
+
+        if (event != null && event.shouldCommit()) {
+            event.level = currentLevel;
+            event.brickCount = bricks.size();
+            event.commit();
+        }
+    }
+
+    // --- MÉTODOS DE MULTIBOLA ---
+    /**
+     * Añade bolas que salen del mismo punto que la primera bola en juego, con
+     * la misma velocidad y direcciones abiertas en abanico alrededor de la
+     * suya. Sirve tanto para un potenciador de multibola como para los modos
+     * de estrés con miles de bolas.
+     *
+     * @param count Número de bolas a añadir
+     * @return Número de bolas añadidas, 0 si no hay ninguna bola en juego
+     */
+    public int spawnBalls(int count) {
+        Ball source = null;
+        for (int i = 0; i < balls.size() && source == null; i++) {
+            Ball candidate = balls.get(i);
+            if (candidate.isAlive() && !candidate.isStuckToPaddle()) {
+                source = candidate;
+            }
+        }
+        if (source == null) {
+            return 0;
+        }
+
+        float speed = (float) Math.hypot(source.getVelocityX(), source.getVelocityY());
+        double baseAngle = Math.atan2(source.getVelocityY(), source.getVelocityX());
+
+        for (int i = 1; i <= count; i++) {
+            // Se alternan las direcciones a un lado y otro de la bola original
+            int step = (i + 1) / 2;
+            double angle = baseAngle + Math.toRadians(MULTIBALL_SPREAD_DEGREES * (i % 2 == 0 ? -step : step));
+
+            Ball ball = new Ball(new Vector2D(source.getX(), source.getY()), 0, playfield, random);
+            ball.setStuckToPaddle(false);
+            ball.setVelocity(new Vector2D((float) (speed * Math.cos(angle)), (float) (speed * Math.sin(angle))));
+            balls.add(ball);
+        }
+        return count;
+    }
+
+    /**
+     * Quita de la partida las bolas que se han salido por abajo, conservando
+     * el orden de las demás. Si no queda ninguna se conserva la primera, que
+     * es la que se recoloca al perder la vida.
+     */
+    private void removeLostBalls() {
+        int kept = 0;
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            if (ball.isAlive()) {
+                balls.set(kept++, ball);
+            }
+        }
+        truncateBalls(Math.max(kept, 1));
+    }
+
+    /**
+     * Deja en la partida solo la primera bola.
+     */
+    private void removeExtraBalls() {
+        truncateBalls(1);
+    }
+
+    /**
+     * Quita las bolas a partir de la posición indicada. Se retiran desde el
+     * final para no crear una sublista en cada tick.
+     *
+     * @param size Número de bolas que se conservan
+     */
+    private void truncateBalls(int size) {
+        for (int i = balls.size() - 1; i >= size; i--) {
+            balls.remove(i);
+        }
+    }
+
+    /**
+     * Verifica si el nivel actual ha sido completado. Es una consulta
+     * constante: el aviso lo levanta {@link #hitBrick(int)} al destruir el
+     * último ladrillo rompible.
+     *
+     * @return true si el nivel está completado, false en caso contrario
+     */
+    private boolean isLevelCompleted() {
+        return isRunning && levelCleared;
+    }
+
+    // --- MÉTODOS DE CONTROL DE EJECUCIÓN ---
+    /**
+     * Inicia el juego.
+     */
+    public void start() {
+        isRunning = true;
+        gameOver = false;
+        gameWon = false;
+    }
+
+    /**
+     * Pausa el juego.
+     */
+    public void pause() {
+        isRunning = false;
+    }
+
+    /**
+     * Reanuda el juego.
+     */
+    public void resume() {
+        isRunning = true;
+    }
+
+    // Setters y getters
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isGameWon() {
+        return gameWon;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Devuelve la primera bola, la que se pega a la paleta.
+     *
+     * @return Bola principal
+     */
+    public Ball getBall() {
+        return this.balls.get(0);
+    }
+
+    public List<Ball> getBalls() {
+        return this.balls;
+    }
+
+    public int getBallCount() {
+        return this.balls.size();
+    }
+
+    public Paddle getPaddle() {
+        return this.paddle;
+    }
+
+    public BrickField getBricks() {
+        return this.bricks;
+    }
+
+    public PlayfieldConfig getPlayfield() {
+        return this.playfield;
+    }
+
+    public long getSeed() {
+        return this.seed;
+    }
+
+    public LevelSource getLevels() {
+        return this.levels;
+    }
+
+    public void setGameListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public void setSoundOutput(SoundOutput sounds) {
+        this.sounds = sounds;
+    }
+}
+
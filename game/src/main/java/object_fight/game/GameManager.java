@@ -0,0 +1,512 @@
+package object_fight.game;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.profiling.FramePhase;
+import object_fight.profiling.FrameProfiler;
+import object_fight.ui.*;
+import object_fight.utils.PlayfieldConfig;
+import object_fight.utils.SoundManager;
+
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import static object_fight.utils.Constants.FPS;
+import static object_fight.utils.Constants.MAX_UPDATES_PER_FRAME;
+import static object_fight.utils.Constants.PROFILE_EXPORT_PROPERTY;
+import static object_fight.utils.Constants.SCREEN_HEIGHT;
+import static object_fight.utils.Constants.SCREEN_WIDTH;
+import static object_fight.utils.Constants.SOUND_PRIORITY_HIGH;
+import static object_fight.utils.Constants.SOUND_PRIORITY_LOW;
+import static object_fight.utils.Constants.SOUND_PRIORITY_NORMAL;
+import static object_fight.utils.Constants.TICKS_PER_SECOND;
+
+/**
+ * Clase que gestiona el flujo general del juego y la interacción entre la
+ * lógica del juego y la interfaz gráfica. Implementa `GameListener` para
+ * responder a eventos importantes como fin del juego, victoria, cambio de
+ * nivel, cambio de puntuación y pérdida de vidas.
+ *
+ * Controla los estados del juego y las transiciones entre diferentes pantallas.
+ */
+
+public class GameManager implements GameListener, GameWindow.PanelListener, Runnable {
+
+    // Atributos principales
+    private Game game; // La lógica principal del juego
+    private GameWindow gameWindow; // Ventana principal del juego
+
+    // Referencias a los paneles de la interfaz
+    private MenuPanel menuPanel;
+    private GamePanel gamePanel;
+
+    // Hilo para el ciclo de actualización del juego
+    private Thread gameThread; // Hilo que ejecuta el ciclo de juego
+    private boolean running = false; // Estado de ejecución del juego
+    private boolean isPaused = false; // Estado de pausa del juego
+
+    // Modo de renderizado del panel de juego
+    private final RenderMode renderMode = RenderMode.fromSystemProperty();
+
+    // Instantáneas del estado renderizable publicadas para el panel de juego
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+
+    // Mediciones de las fases del bucle, compartidas con el juego, el sonido y el panel
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    // Última acción de movimiento enviada, para no encolar las repeticiones de tecla
+    private InputAction lastMoveAction = InputAction.STOP;
+
+    // Temporización del bucle
+    private final long SIMULATION_STEP = 1000000000L / TICKS_PER_SECOND; // Duración fija de un tick
+    private final long OPTIMAL_TIME = 1000000000L / FPS; // Duración objetivo de un frame
+
+    /**
+     * Constructor de `GameManager`. Inicializa los componentes y la interfaz
+     * gráfica, configura los listeners y los sonidos e inicia la app.
+     */
+    public GameManager() {
+        initializeComponents();
+        initializePanels();
+        setupListeners();
+        setupSounds();
+        setupProfileExport();
+        startApplication();
+    }
+
+    /**
+     * Inicializa los componentes principales del juego y la ventana.
+     */
+    private void initializeComponents() {
+        game = createGame();
+        gameWindow = new GameWindow(game);
+        gameWindow.setPanelListener(this);
+    }
+
+    /**
+     * Crea una nueva partida cuyo área de juego ocupa toda la pantalla.
+     *
+     * @return La nueva instancia del juego
+     */
+    private Game createGame() {
+        Game newGame = new Game(new PlayfieldConfig(SCREEN_WIDTH, SCREEN_HEIGHT));
+        newGame.setGameListener(this);
+        newGame.setProfiler(profiler);
+        newGame.setSoundOutput(SoundManager.getInstance());
+        return newGame;
+    }
+
+    /**
+     * Obtiene la referencia al panel del menú. El resto de paneles los crea la
+     * ventana la primera vez que se muestran y se configuran al recibir el
+     * aviso de su creación.
+     */
+    private void initializePanels() {
+        menuPanel = gameWindow.getMenuPanel();
+    }
+
+    /**
+     * Configura los listeners del menú principal. Controla acciones como
+     * iniciar una nueva partida y salir del juego.
+     */
+    private void setupListeners() {
+        menuPanel.addIniciarPartidaAction(e -> startGame());
+        menuPanel.addSalirAction(e -> exitGame());
+    }
+
+    /**
+     * Configura el panel de juego al crearlo: le asigna el buffer de
+     * instantáneas, el modo de renderizado y el perfilador, y el manejo de
+     * teclas.
+     *
+     * @param panel El panel de juego recién creado
+     */
+    @Override
+    public void onGamePanelCreated(GamePanel panel) {
+        gamePanel = panel;
+        gamePanel.setSnapshotBuffer(snapshotBuffer);
+        gamePanel.setRenderMode(renderMode);
+        gamePanel.setProfiler(profiler);
+
+        gamePanel.addKeyPressedListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                handleKeyPress(e);
+            }
+
+            @Override
+            public void keyReleased(KeyEvent e) {
+                handleKeyRelease(e);
+            }
+        });
+    }
+
+    /**
+     * Configura los botones del panel de fin de juego al crearlo.
+     *
+     * @param panel El panel de fin de juego recién creado
+     */
+    @Override
+    public void onGameOverPanelCreated(GameOverPanel panel) {
+        panel.addIniciarPartidaAction(e -> startNewGame());
+        panel.addSalirAction(e -> exitGame());
+    }
+
+    /**
+     * Configura los botones del panel de victoria al crearlo.
+     *
+     * @param panel El panel de victoria recién creado
+     */
+    @Override
+    public void onVictoryPanelCreated(VictoryPanel panel) {
+        panel.addIniciarPartidaAction(e -> startNewGame());
+        panel.addSalirAction(e -> exitGame());
+    }
+
+    /**
+     * Configura los sonidos del juego cargándolos en `SoundManager`. Carga los
+     * sonidos de colisión, destrucción de ladrillo, fin de juego, pérdida de
+     * vida y victoria.
+     */
+    private void setupSounds() {
+        SoundManager soundManager = SoundManager.getInstance(); // Obtén la instancia única
+        soundManager.loadSound("ballCollision", "BallCollision", SOUND_PRIORITY_LOW);
+        soundManager.loadSound("breakBrick", "BreakBrick", SOUND_PRIORITY_NORMAL);
+        soundManager.loadSound("gameOver", "GameOver", SOUND_PRIORITY_HIGH);
+        soundManager.loadSound("lifeLost", "LiveLoss", SOUND_PRIORITY_HIGH);
+        soundManager.loadSound("victory", "Victory", SOUND_PRIORITY_HIGH);
+    }
+
+    /**
+     * Si se ha indicado un fichero en la propiedad del sistema
+     * {@code object_fight.profileExport}, registra un hook que escribe en él
+     * las mediciones del perfilador al terminar la aplicación, se cierre como
+     * se cierre.
+     */
+    private void setupProfileExport() {
+        String exportPath = System.getProperty(PROFILE_EXPORT_PROPERTY);
+        if (exportPath == null || exportPath.isBlank()) {
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                profiler.export(Path.of(exportPath));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }));
+    }
+
+    /**
+     * Inicia la aplicación mostrando el menú principal y reproduciendo la
+     * música de fondo del menú.
+     */
+    private void startApplication() {
+        gameWindow.showPanel("menu");
+        gameWindow.setVisible(true);
+        SoundManager.getInstance().playMenuMusic("MenuMusic");
+    }
+
+    /**
+     * Inicia una nueva partida y el hilo de actualización del juego, deteniendo
+     * la música del menú. El panel de juego se muestra antes de arrancar el
+     * hilo, ya que es al mostrarlo cuando se crea.
+     */
+    public void startGame() {
+        isPaused = false;
+        game.start();
+        running = true;
+
+        gameWindow.showPanel("game");
+        gamePanel.requestGameFocus();
+
+        // Se inicia el hilo del juego si no está en ejecución
+        if (gameThread == null || !gameThread.isAlive()) {
+            gameThread = new Thread(this);
+            gameThread.start();
+        }
+
+        SoundManager.getInstance().stopMenuMusic();
+    }
+
+    /**
+     * Inicia una nueva partida desde el menú, reinicializando el estado de
+     * juego y los paneles de interfaz.
+     */
+    private void startNewGame() {
+        game = createGame();
+        lastMoveAction = InputAction.STOP;
+
+        gameWindow.updateGameReference(game);
+
+        isPaused = false;
+        game.start();
+        running = true;
+
+        gameWindow.showPanel("game");
+        gamePanel.requestGameFocus();
+
+        if (gameThread == null || !gameThread.isAlive()) {
+            gameThread = new Thread(this);
+            gameThread.start();
+        }
+    }
+
+    /**
+     * Sale del juego, cierra el SoundManagrr y deteniendo la aplicación.
+     */
+    public void exitGame() {
+        SoundManager.getInstance().close();
+        System.exit(0);
+    }
+
+    /**
+     * Reanuda el juego si está pausado, restaurando el panel de juego.
+     */
+    public void resumeGame() {
+        isPaused = false;
+        game.resume();
+        gameWindow.showPanel("game");
+        gamePanel.requestGameFocus();
+    }
+
+    /**
+     * Regresa al menú principal desde cualquier otro panel.
+     */
+    public void returnToMenu() {
+        running = false;
+        gameWindow.showPanel("menu");
+    }
+
+    /**
+     * Ejecuta el ciclo del juego con un paso de simulación fijo. El tiempo real
+     * transcurrido se acumula y se consume en ticks de duración constante
+     * (como máximo {@code MAX_UPDATES_PER_FRAME} por frame), de modo que la
+     * física no depende de lo que tarde cada frame. El resto acumulado se
+     * publica con la instantánea como factor de interpolación, y el frame se
+     * presenta según el modo de renderizado configurado.
+     */
+    @Override
+    public void run() {
+        long lastTime = System.nanoTime();
+        long accumulator = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            long frameTime = now - lastTime;
+            lastTime = now;
+            profiler.record(FramePhase.FRAME, frameTime);
+
+            if (!isPaused) {
+                accumulator += frameTime;
+
+                // Se ejecutan los ticks pendientes con un límite de sub-pasos
+                int updates = 0;
+                while (accumulator >= SIMULATION_STEP && updates < MAX_UPDATES_PER_FRAME
+                        && running && !isPaused) {
+                    game.update();
+                    accumulator -= SIMULATION_STEP;
+                    updates++;
+                }
+
+                // Si no se ha podido recuperar el retraso, se descarta el tiempo sobrante
+                if (accumulator >= SIMULATION_STEP) {
+                    accumulator = SIMULATION_STEP - 1;
+                }
+
+                // Se publica el estado del frame interpolando
+                publishSnapshot((float) accumulator / SIMULATION_STEP);
+            } else {
+                // Al reanudar no se debe simular el tiempo pasado en pausa
+                accumulator = 0;
+            }
+
+            // Se renderiza el frame
+            if (renderMode == RenderMode.ACTIVE) {
+                // En modo activo se presenta también en pausa para mostrar el texto de pausa
+                gamePanel.renderActiveFrame();
+            } else if (renderMode == RenderMode.PARTIAL) {
+                if (!isPaused) {
+                    gamePanel.requestPartialRepaint();
+                }
+            } else if (!isPaused) {
+                gamePanel.repaint();
+            }
+
+            // Se controla los FPS de renderizado
+            long sleepTime = (lastTime - System.nanoTime() + OPTIMAL_TIME) / 1000000;
+            if (sleepTime > 0) {
+                try {
+                    Thread.sleep(sleepTime);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Copia el estado renderizable del juego en el buffer trasero y lo
+     * publica para que el panel de juego lo dibuje. Se ejecuta en el hilo del
+     * juego y nunca espera al hilo de renderizado.
+     *
+     * @param interpolation Factor de interpolación del frame
+     */
+    private void publishSnapshot(float interpolation) {
+        long start = System.nanoTime();
+        FrameSnapshot snapshot = snapshotBuffer.getBackBuffer();
+        snapshot.capture(game, interpolation);
+        snapshotBuffer.publish();
+        profiler.recordSince(FramePhase.SNAPSHOT, start);
+    }
+
+    /**
+     * Maneja las teclas presionadas, permitiendo pausar/reanudar, controlar la
+     * paleta, poner la bola en juego y mostrar el overlay del perfilador.
+     *
+     * @param e El evento de teclado.
+     */
+    private void handleKeyPress(KeyEvent e) {
+        if (e.getKeyCode() == KeyEvent.VK_F3) {
+            gamePanel.toggleProfilerOverlay();
+            return;
+        }
+
+        if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
+            if (isPaused) {
+                resumeGame();
+                gamePanel.setPaused(false);
+            } else {
+                isPaused = true;
+                game.pause();
+                gamePanel.setPaused(true);
+            }
+            return;
+        }
+
+        if (isPaused) {
+            return;
+        }
+
+        switch (e.getKeyCode()) {
+            case KeyEvent.VK_LEFT:
+                submitMove(InputAction.MOVE_LEFT);
+                break;
+            case KeyEvent.VK_RIGHT:
+                submitMove(InputAction.MOVE_RIGHT);
+                break;
+            case KeyEvent.VK_SPACE:
+                game.submitInput(InputAction.LAUNCH);
+                break;
+        }
+    }
+
+    /**
+     * Maneja las teclas liberadas, deteniendo el movimiento de la paleta si se
+     * soltaron las teclas de dirección.
+     *
+     * @param e El evento de teclado.
+     */
+    private void handleKeyRelease(KeyEvent e) {
+        if (isPaused) {
+            return;
+        }
+
+        if (e.getKeyCode() == KeyEvent.VK_LEFT || e.getKeyCode() == KeyEvent.VK_RIGHT) {
+            submitMove(InputAction.STOP);
+        }
+    }
+
+    /**
+     * Pide una acción de movimiento de la paleta. Las repeticiones
+     * automáticas de una tecla mantenida se descartan, ya que no cambian el
+     * estado de la paleta.
+     *
+     * @param action Acción de movimiento a pedir
+     */
+    private void submitMove(InputAction action) {
+        if (action != lastMoveAction) {
+            game.submitInput(action);
+            lastMoveAction = action;
+        }
+    }
+
+    // --- IMPLEMENTACIÓN DE LOS MÉTODOS DEL GAMELISTENER ---
+    /**
+     * Se activa cuando el juego termina, mostrando el panel de "Game Over" y
+     * reproduciendo el sonido correspondiente. El panel se crea y se muestra
+     * en el hilo de eventos de Swing, ya que este aviso llega desde el hilo
+     * del juego.
+     */
+    @Override
+    public void onGameOver() {
+        running = false;
+        isPaused = true;
+        int score = game.getScore();
+        SwingUtilities.invokeLater(() -> {
+            gameWindow.getGameOverPanel().updateScore(score);
+            gameWindow.showPanel("gameover");
+        });
+        SoundManager.getInstance().playSound("gameOver");
+    }
+
+    /**
+     * Se activa cuando el jugador gana el juego, mostrando el panel de victoria
+     * y reproduciendo el sonido correspondiente. Como en {@link #onGameOver()},
+     * el panel se crea y se muestra en el hilo de eventos de Swing.
+     */
+    @Override
+    public void onGameWon() {
+        running = false;
+        isPaused = true;
+        int score = game.getScore();
+        SwingUtilities.invokeLater(() -> {
+            gameWindow.getVictoryPanel().updateScore(score);
+            gameWindow.showPanel("victory");
+        });
+        SoundManager.getInstance().playSound("victory");
+    }
+
+    /**
+     * Se activa cuando el jugador completa un nivel, pausando el juego y
+     * preparando la transición al siguiente nivel.
+     *
+     * @param level El nivel completado.
+     */
+    @Override
+    public void onLevelCompleted(int level) {
+        isPaused = true;
+        game.pause();
+        Timer transitionTimer = new Timer(100, e -> {
+            ((Timer) e.getSource()).stop();
+            isPaused = false;
+            game.resume();
+            gameWindow.showPanel("game");
+            gamePanel.requestGameFocus();
+        });
+        transitionTimer.setRepeats(false);
+        transitionTimer.start();
+    }
+
+    /**
+     * Se activa cuando el jugador pierde una vida, reproduciendo el sonido de
+     * pérdida de vida. Si no quedan vidas, llama a `onGameOver`.
+     *
+     * @param remainingLives Número de vidas restantes.
+     */
+    @Override
+    public void onLifeLost(int remainingLives) {
+        SoundManager.getInstance().playSound("lifeLost");
+        if (remainingLives <= 0) {
+            onGameOver();
+        }
+    }
+}
+
@@ -0,0 +1,42 @@
+package object_fight.game;
+
+/**
+ * @author jairo
+ */
+
+/**
+ * Acciones de entrada que el jugador puede realizar sobre la partida. Se
+ * encolan desde el hilo de eventos de Swing y se aplican al inicio de cada
+ * tick en el hilo del juego.
+ */
+public enum InputAction {
+
+    // Mueve la paleta hacia la izquierda
+    MOVE_LEFT(true),
+
+    // Mueve la paleta hacia la derecha
+    MOVE_RIGHT(true),
+
+    // Detiene la paleta
+    STOP(true),
+
+    // Lanza la bola si está pegada a la paleta
+    LAUNCH(false);
+
+    // Indica si la acción fija el movimiento de la paleta
+    private final boolean move;
+
+    InputAction(boolean move) {
+        this.move = move;
+    }
+
+    /**
+     * Indica si la acción fija el movimiento de la paleta. Solo cuenta el
+     * último movimiento pedido antes de cada tick.
+     *
+     * @return true si es un movimiento
+     */
+    public boolean isMove() {
+        return move;
+    }
+}
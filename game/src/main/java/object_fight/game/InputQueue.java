@@ -0,0 +1,91 @@
+package object_fight.game;
+
+/**
+ * @author jairo
+ */
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Entrada pendiente del jugador, compartida sin bloqueos entre el hilo de
+ * eventos de Swing, que la escribe, y el hilo del juego, que la aplica al
+ * inicio de cada tick.
+ *
+ * No es una cola de eventos: los movimientos de la paleta son un estado, así
+ * que solo se guarda el último movimiento pedido y una parada nunca deja la
+ * paleta en marcha; y un lanzamiento solo tiene efecto una vez por tick, así
+ * que los lanzamientos pedidos antes de que el juego aplique el primero se
+ * agrupan en uno solo. Con eso bastan dos huecos atómicos y nunca se pierde
+ * una entrada.
+ */
+public class InputQueue {
+
+    /**
+     * Receptor de las acciones extraídas.
+     */
+    @FunctionalInterface
+    public interface InputHandler {
+
+        /**
+         * Procesa una acción de entrada.
+         *
+         * @param action Acción realizada
+         */
+        void handle(InputAction action);
+    }
+
+    // Último movimiento pedido y todavía no aplicado, o null si no hay ninguno
+    private final AtomicReference<InputAction> pendingMove = new AtomicReference<>();
+
+    // Indica si hay un lanzamiento pedido que el juego todavía no ha aplicado
+    private final AtomicBoolean launchPending = new AtomicBoolean();
+
+    /**
+     * Guarda una acción. Los movimientos sustituyen al movimiento pendiente y
+     * los lanzamientos se agrupan con el pendiente.
+     *
+     * @param action Acción realizada
+     */
+    public void offer(InputAction action) {
+        if (action.isMove()) {
+            pendingMove.set(action);
+        } else {
+            launchPending.set(true);
+        }
+    }
+
+    /**
+     * Extrae las acciones pendientes: primero el último movimiento pedido y
+     * después el lanzamiento, si lo hay. Solo debe llamarse desde el hilo del
+     * juego.
+     *
+     * @param handler Receptor de las acciones
+     * @return Número de acciones procesadas
+     */
+    public int drain(InputHandler handler) {
+        int count = 0;
+
+        InputAction move = pendingMove.getAndSet(null);
+        if (move != null) {
+            handler.handle(move);
+            count++;
+        }
+
+        // A partir de aquí un nuevo lanzamiento vuelve a quedar pendiente
+        if (launchPending.getAndSet(false)) {
+            handler.handle(InputAction.LAUNCH);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Indica si no quedan acciones pendientes.
+     *
+     * @return true si no hay nada que aplicar
+     */
+    public boolean isEmpty() {
+        return pendingMove.get() == null && !launchPending.get();
+    }
+}
@@ -0,0 +1,72 @@
+package object_fight.game;
+
+/**
+ * @author jairo
+ */
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer sin bloqueos para intercambiar instantáneas entre el hilo del
+ * juego (productor) y el hilo que renderiza (consumidor).
+ *
+ * El productor escribe siempre en su buffer trasero y al publicarlo lo
+ * intercambia con el buffer intermedio. El consumidor, cuando hay una
+ * instantánea nueva, intercambia su buffer frontal con el intermedio. Cada
+ * hilo es el único dueño de su buffer, por lo que ninguno espera nunca al otro
+ * y el consumidor siempre lee la última instantánea completa.
+ */
+public class SnapshotBuffer {
+
+    // Bit que marca que el buffer intermedio contiene una instantánea no leída
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    // Los tres buffers
+    private final FrameSnapshot[] buffers = {
+            new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()
+    };
+
+    // Índice del buffer intermedio más el bit FRESH
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    // Buffer propiedad del productor
+    private int back = 0;
+
+    // Buffer propiedad del consumidor
+    private int front = 2;
+
+    /**
+     * Obtiene el buffer en el que el productor debe escribir la siguiente
+     * instantánea. Solo debe llamarse desde el hilo productor.
+     *
+     * @return Instantánea a rellenar
+     */
+    public FrameSnapshot getBackBuffer() {
+        return buffers[back];
+    }
+
+    /**
+     * Publica la instantánea escrita en el buffer trasero. Solo debe llamarse
+     * desde el hilo productor.
+     */
+    public void publish() {
+        int previous = middle.getAndSet(back | FRESH);
+        back = previous & INDEX_MASK;
+    }
+
+    /**
+     * Obtiene la última instantánea publicada. Si no hay ninguna nueva desde
+     * la última llamada devuelve la misma de antes. Solo debe llamarse desde el
+     * hilo consumidor.
+     *
+     * @return Última instantánea completa
+     */
+    public FrameSnapshot acquireLatest() {
+        if ((middle.get() & FRESH) != 0) {
+            int previous = middle.getAndSet(front);
+            front = previous & INDEX_MASK;
+        }
+        return buffers[front];
+    }
+}
@@ -5,13 +5,14 @@ package object_fight.gameobjects;
  */
 
 import object_fight.collisions.CircleCollider;
-import object_fight.gameobjects.bricks.Brick;
-import object_fight.utils.SoundManager;
+import object_fight.collisions.Collider;
+import object_fight.utils.PlayfieldConfig;
 import object_fight.utils.Vector2D;
 import object_fight.utils.Constants.*;
 
 import java.awt.*;
 import java.awt.geom.Point2D;
+import java.util.random.RandomGenerator;
 
 import static object_fight.utils.Constants.*;
 
@@ -25,14 +26,24 @@ public class Ball extends GameObject {
     // Atributo que indica si la bola está pegada al paddle
     private boolean isStuckToPaddle = true;
 
+    // Área de juego en la que rebota la bola
+    private final PlayfieldConfig playfield;
+
+    // Generador aleatorio de la partida, usado para variar los rebotes
+    private final RandomGenerator random;
+
     /**
      * Constructor de la bola.
      *
      * @param position Posición inicial de la bola
      * @param sizeReduction Reducción del tamaño respecto al radio base
+     * @param playfield Área de juego en la que se mueve la bola
+     * @param random Generador aleatorio de la partida
      */
-    public Ball(Vector2D position, int sizeReduction) {
+    public Ball(Vector2D position, int sizeReduction, PlayfieldConfig playfield, RandomGenerator random) {
         super(position, (BALL_RADIUS * 2) - sizeReduction, (BALL_RADIUS * 2) - sizeReduction);
+        this.playfield = playfield;
+        this.random = random;
 
         // Se establece la velocidad de la bola
         this.velocity = new Vector2D(CONSTANT_BALL_SPEED, -CONSTANT_BALL_SPEED);
@@ -45,36 +56,66 @@ public class Ball extends GameObject {
     }
 
     /**
-     * Actualiza la posición de la bola y su collider.
+     * Actualiza la posición de la bola mientras está pegada al paddle. El
+     * desplazamiento de la bola en juego lo resuelve {@code Game} mediante
+     * {@link #advance(float, float)}, para poder detectar los impactos de forma
+     * continua a lo largo del tick.
      */
     public void update(Paddle paddle) {
         if (isStuckToPaddle) {
             // Si la bola está pegada, sigue la posición del paddle en el eje X
             position.setX(paddle.getPosition().getX() + paddle.getWidth() / 2 - BALL_RADIUS);
             position.setY(paddle.getPosition().getY() - BALL_RADIUS * 2);
-        } else {
-            // Movimiento normal de la bola cuando está en juego
-            super.update();
+            updateCollider();
         }
+    }
 
-        // Se actualiza el collider independientemente de si está pegada o no
-        collider.updatePosition(new Vector2D(position.getX() + BALL_RADIUS, position.getY() + BALL_RADIUS));
+    /**
+     * Desplaza la bola una distancia concreta y actualiza su collider.
+     *
+     * @param dx Desplazamiento en X
+     * @param dy Desplazamiento en Y
+     */
+    public void advance(float dx, float dy) {
+        position.setX(position.getX() + dx);
+        position.setY(position.getY() + dy);
+        updateCollider();
+    }
 
-        // Se verifica las colisiones con los límites de la ventana de juego
-        checkBounds();
+    /**
+     * Refleja la velocidad de la bola respecto a la normal de la superficie
+     * contra la que ha impactado.
+     *
+     * @param normalX Componente X de la normal (unitaria)
+     * @param normalY Componente Y de la normal (unitaria)
+     */
+    public void bounce(float normalX, float normalY) {
+        float dot = velocity.getX() * normalX + velocity.getY() * normalY;
+        velocity.setX(velocity.getX() - 2 * dot * normalX);
+        velocity.setY(velocity.getY() - 2 * dot * normalY);
     }
 
     /**
-     * Renderiza la bola como una luna con cráteres usando gradientes.
+     * Sitúa el collider en el centro de la bola.
+     */
+    private void updateCollider() {
+        ((CircleCollider) collider).updatePosition(getCenterX(), getCenterY());
+    }
+
+    /**
+     * Dibuja una bola con el aspecto de una luna en la posición indicada. Es
+     * estático para poder dibujar la bola a partir de una instantánea del
+     * estado sin acceder al objeto vivo.
      *
      * @param g Contexto gráfico para dibujar
+     * @param x Coordenada X de la esquina superior izquierda
+     * @param y Coordenada Y de la esquina superior izquierda
+     * @param width Ancho de la bola
+     * @param height Alto de la bola
      */
-    @Override
-    public void render(Graphics g) {
+    public static void paint(Graphics g, int x, int y, int width, int height) {
         Graphics2D g2d = (Graphics2D) g;
 
-        int x = (int) position.getX();
-        int y = (int) position.getY();
         int radius = width / 2;
 
         // Dibuja el cuerpo base de la luna
@@ -123,9 +164,6 @@ public class Ball extends GameObject {
     public void handleCollision(GameObject other) {
         if (other instanceof Paddle) {
             handlePaddleCollision((Paddle) other);
-            SoundManager.getInstance().playSound("ballCollision"); // Se reproduce el sonido de colisión de la bola
-        } else if (other instanceof Brick) {
-            handleBrickCollision((Brick) other);
         }
     }
 
@@ -138,8 +176,8 @@ public class Ball extends GameObject {
      * @param paddle El paddle con el que colisiona la bola.
      */
     private void handlePaddleCollision(Paddle paddle) {
-        // Se obtiene el collider del paddle
-        Rectangle paddleBounds = paddle.getCollider().getBoundingBox();
+        // Se obtienen los límites del collider del paddle
+        Collider paddleBounds = paddle.getCollider();
 
         // Se obtiene el centro de la bola
         double ballCenterX = position.getX() + BALL_RADIUS;
@@ -151,8 +189,8 @@ public class Ball extends GameObject {
         );
 
         // Se verifica si el golpe es central o lateral en la paleta
-        boolean isCentralHit = ballCenterX >= paddleBounds.x
-                && ballCenterX <= paddleBounds.x + paddleBounds.width;
+        boolean isCentralHit = ballCenterX >= paddleBounds.getMinX()
+                && ballCenterX <= paddleBounds.getMaxX();
 
         if (isCentralHit) {
             handleCentralHit(paddle, currentSpeed);
@@ -178,8 +216,8 @@ public class Ball extends GameObject {
         double relativeHit = (ballCenterX - paddleCenterX) / (paddle.getWidth() / 2);
 
         // Se añade una ligera variación de velocidad y ángulo para un rebote dinámico
-        float speedWithVariation = currentSpeed + (float) (Math.random() * 3 - 1.5); // 1.5 de variación
-        double randomAngle = Math.random() * 20 - 10; // 10 grados de variación
+        float speedWithVariation = currentSpeed + (float) (random.nextDouble() * 3 - 1.5); // 1.5 de variación
+        double randomAngle = random.nextDouble() * 20 - 10; // 10 grados de variación
 
         // Se ajusta el ángulo de rebote y establece la velocidad de la bola
         double angle = (relativeHit * 50) + randomAngle; // Rebote ajustado de 50 grados
@@ -196,7 +234,7 @@ public class Ball extends GameObject {
      */
     private void handleSideHit(float currentSpeed) {
         // Se invierte la dirección horizontal con una variación del 20%
-        velocity.setX((float) (-velocity.getX() * (1 + (Math.random() * 0.4f - 0.2f))));
+        velocity.setX((float) (-velocity.getX() * (1 + (random.nextDouble() * 0.4f - 0.2f))));
         velocity.setY(-velocity.getY());
 
         // Se asegura una velocidad mínima vertical para mantener el dinamismo
@@ -207,90 +245,35 @@ public class Ball extends GameObject {
     }
 
     /**
-     * Maneja la colisión de la bola con un ladrillo (brick). Determina la
-     * dirección desde la que la bola golpea el ladrillo y ajusta su velocidad y
-     * posición en consecuencia.
+     * Verifica y maneja las colisiones con los límites de la pantalla. Se
+     * llama después de mover la bola en cada tick.
      *
-     * @param brick El ladrillo con el que colisiona la bola.
+     * @return true si la bola ha rebotado en un borde
      */
-    private void handleBrickCollision(Brick brick) {
-        // Se obtiene el collider del brick
-        Rectangle brickBounds = brick.getCollider().getBoundingBox();
-
-        // Se determina la posición anterior de la bola para estimar la dirección de colisión
-        double previousX = position.getX() - velocity.getX();
-        double previousY = position.getY() - velocity.getY();
-
-        // Se calcula el centro de la bola (posiciones anterior y actual)
-        double prevCenterX = previousX + BALL_RADIUS;
-        double prevCenterY = previousY + BALL_RADIUS;
-
-        // Se determina la dirección de impacto y ajusta la velocidad en consecuencia
-        if (prevCenterY + BALL_RADIUS <= brickBounds.y) {
-            // Impacto desde arriba
-            velocity.setY(-Math.abs(velocity.getY())); // Asegura que va hacia arriba
-            position.setY(brickBounds.y - BALL_RADIUS * 2);
-        } else if (prevCenterY - BALL_RADIUS >= brickBounds.y + brickBounds.height) {
-            // Impacto desde abajo
-            velocity.setY(Math.abs(velocity.getY())); // Asegura que va hacia abajo
-            position.setY(brickBounds.y + brickBounds.height);
-        } else if (prevCenterX + BALL_RADIUS <= brickBounds.x) {
-            // Impacto desde la izquierda
-            velocity.setX(-Math.abs(velocity.getX())); // Asegura que va hacia la izquierda
-            position.setX(brickBounds.x - BALL_RADIUS * 2);
-        } else if (prevCenterX - BALL_RADIUS >= brickBounds.x + brickBounds.width) {
-            // Impacto desde la derecha
-            velocity.setX(Math.abs(velocity.getX())); // Asegura que va hacia la derecha
-            position.setX(brickBounds.x + brickBounds.width);
-        } else {
-            // Si la bola está dentro del ladrillo, corrige la posición al borde más cercano
-            double distToLeft = Math.abs(position.getX() + BALL_RADIUS - brickBounds.x);
-            double distToRight = Math.abs(position.getX() + BALL_RADIUS - (brickBounds.x + brickBounds.width));
-            double distToTop = Math.abs(position.getY() + BALL_RADIUS - brickBounds.y);
-            double distToBottom = Math.abs(position.getY() + BALL_RADIUS - (brickBounds.y + brickBounds.height));
-
-            // Encuentra la distancia mínima para determinar la corrección
-            double minDist = Math.min(Math.min(distToLeft, distToRight), Math.min(distToTop, distToBottom));
-
-            // Se ajusta la posición y dirección de la bola basándose en la corrección más cercana
-            if (minDist == distToLeft) {
-                velocity.setX(-Math.abs(velocity.getX()));
-                position.setX(brickBounds.x - BALL_RADIUS * 2);
-            } else if (minDist == distToRight) {
-                velocity.setX(Math.abs(velocity.getX()));
-                position.setX(brickBounds.x + brickBounds.width);
-            } else if (minDist == distToTop) {
-                velocity.setY(-Math.abs(velocity.getY()));
-                position.setY(brickBounds.y - BALL_RADIUS * 2);
-            } else {
-                velocity.setY(Math.abs(velocity.getY()));
-                position.setY(brickBounds.y + brickBounds.height);
-            }
-        }
-    }
+    public boolean checkBounds() {
+        boolean bounced = false;
 
-    /**
-     * Verifica y maneja las colisiones con los límites de la pantalla.
-     */
-    private void checkBounds() {
         // Límites laterales
-        if (position.getX() <= 0 || position.getX() + (BALL_RADIUS * 2) >= SCREEN_WIDTH) {
+        if (position.getX() <= 0 || position.getX() + (BALL_RADIUS * 2) >= playfield.getWidth()) {
             velocity.setX(-velocity.getX());
-            position.setX(Math.max(0, Math.min(position.getX(), SCREEN_WIDTH - (BALL_RADIUS * 2))));
-            SoundManager.getInstance().playSound("ballCollision"); // Se reproduce el sonido de colisión de la bola
+            position.setX(Math.max(0, Math.min(position.getX(), playfield.getWidth() - (BALL_RADIUS * 2))));
+            updateCollider();
+            bounced = true;
         }
 
         // Límite superior
         if (position.getY() <= 0) {
             velocity.setY(-velocity.getY());
             position.setY(0);
-            SoundManager.getInstance().playSound("ballCollision"); // Se reproduce el sonido de colisión de la bola
+            updateCollider();
+            bounced = true;
         }
 
         // Límite inferior
-        if (position.getY() >= SCREEN_HEIGHT) {
+        if (position.getY() >= playfield.getHeight()) {
             alive = false; // Se "mata" la pelota
         }
+        return bounced;
     }
 
     /**
@@ -325,7 +308,7 @@ public class Ball extends GameObject {
             float initialSpeed = BASE_BALL_SPEED * 1.2f;
 
             // Se genera un ángulo aleatorio para variar la dirección inicial
-            double angle = Math.toRadians(-60 + Math.random() * 120); // Rango de -60° a 60°
+            double angle = Math.toRadians(-60 + random.nextDouble() * 120); // Rango de -60° a 60°
 
             // Se establece la velocidad inicial en función del ángulo y la velocidad definida
             velocity.setX((float) (initialSpeed * Math.cos(angle))); // Componente X de la velocidad
@@ -337,7 +320,7 @@ public class Ball extends GameObject {
      * Resetea la posición de la bola a su posición inicial.
      */
     public void resetBallPosition() {
-        setPosition(new Vector2D(SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2));
+        setPosition(new Vector2D(playfield.getWidth() / 2, playfield.getHeight() / 2));
         setAlive(true);
     }
 
@@ -358,6 +341,18 @@ public class Ball extends GameObject {
     }
 
     // Getters y setters
+    public float getCenterX() {
+        return position.getX() + BALL_RADIUS;
+    }
+
+    public float getCenterY() {
+        return position.getY() + BALL_RADIUS;
+    }
+
+    public float getRadius() {
+        return ((CircleCollider) collider).getRadius();
+    }
+
     public boolean isStuckToPaddle() {
         return isStuckToPaddle;
     }
@@ -15,13 +15,17 @@ import static object_fight.utils.Constants.DEBUG_VELOCITY_LINE_MULTIPLIER;
 /**
  * Clase abstracta que representa un objeto base del juego. Proporciona la
  * funcionalidad común para todos los objetos del juego como posición,
- * velocidad, colisiones y renderizado.
+ * velocidad y colisiones. Los objetos no se dibujan a sí mismos: el
+ * renderizado parte de una instantánea del frame y usa el método estático
+ * {@code paint} de cada clase.
  *
  */
 public abstract class GameObject {
 
     // Posición del objeto en el espacio 2D
     protected Vector2D position;
+    // Posición en el tick anterior, usada para interpolar el renderizado
+    protected Vector2D previousPosition;
     // Velocidad y dirección del objeto
     protected Vector2D velocity;
     // Dimensiones del objeto
@@ -41,6 +45,7 @@ public abstract class GameObject {
      */
     public GameObject(Vector2D position, int width, int height) {
         this.position = position;
+        this.previousPosition = new Vector2D(position);
         this.width = width;
         this.height = height;
         this.velocity = new Vector2D(0, 0);
@@ -60,12 +65,13 @@ public abstract class GameObject {
     }
 
     /**
-     * Método abstracto para renderizar el objeto. Cada subclase debe
-     * implementar su propia lógica de renderizado.
-     *
-     * @param g Contexto gráfico para dibujar
+     * Guarda la posición actual como la del tick anterior. Se llama al inicio
+     * de cada tick de simulación, antes de mover el objeto.
      */
-    public abstract void render(Graphics g);
+    public void savePreviousPosition() {
+        previousPosition.setX(position.getX());
+        previousPosition.setY(position.getY());
+    }
 
     /**
      * Comprueba si este objeto colisiona con otro.
@@ -114,6 +120,8 @@ public abstract class GameObject {
 
     public void setPosition(Vector2D position) {
         this.position = position;
+        // Un cambio de posición directo no debe interpolarse
+        this.previousPosition = new Vector2D(position);
     }
 
     public float getX() {
@@ -128,6 +136,14 @@ public abstract class GameObject {
         return position.getY();
     }
 
+    public float getPreviousX() {
+        return previousPosition.getX();
+    }
+
+    public float getPreviousY() {
+        return previousPosition.getY();
+    }
+
     public void setY(float y) {
         position.setY(y);
     }
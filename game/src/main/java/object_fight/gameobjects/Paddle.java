@@ -5,6 +5,7 @@ package object_fight.gameobjects;
  */
 
 import object_fight.collisions.RectangleCollider;
+import object_fight.utils.PlayfieldConfig;
 import object_fight.utils.Vector2D;
 
 import java.awt.*;
@@ -21,16 +22,21 @@ public class Paddle extends GameObject {
     private boolean resizingEnabled = false;
     private int sizeChangeDirection = -1;
 
+    // Área de juego que limita el movimiento de la paleta
+    private final PlayfieldConfig playfield;
+
     /**
      * Constructor de la paleta.
      *
      * @param position Posición inicial de la paleta
      * @param sizeReduction Reducción del tamaño respecto al tamaño base
+     * @param playfield Área de juego que limita el movimiento de la paleta
      */
-    public Paddle(Vector2D position, int sizeReduction) {
+    public Paddle(Vector2D position, int sizeReduction, PlayfieldConfig playfield) {
         super(position,
                 INITIAL_PADDLE_WIDTH - sizeReduction,
                 PADDLE_HEIGHT - sizeReduction);
+        this.playfield = playfield;
 
         // Se establece su collider como RectangleCollider
         this.collider = new RectangleCollider(
@@ -52,15 +58,15 @@ public class Paddle extends GameObject {
     }
 
     /**
-     * Renderiza la paleta con efectos visuales.
+     * Dibuja una paleta en la posición y con el tamaño indicados.
      *
      * @param g Contexto gráfico para dibujar
+     * @param x Coordenada X de la esquina superior izquierda
+     * @param y Coordenada Y de la esquina superior izquierda
+     * @param width Ancho de la paleta
+     * @param height Alto de la paleta
      */
-    @Override
-    public void render(Graphics g) {
-        int x = (int) position.getX();
-        int y = (int) position.getY();
-
+    public static void paint(Graphics g, int x, int y, int width, int height) {
         g.setColor(new Color(220, 20, 60));
         g.fillRect(x, y, width, height);
 
@@ -96,8 +102,8 @@ public class Paddle extends GameObject {
     private void checkBounds() {
         if (position.getX() < 0) {
             position.setX(0);
-        } else if (position.getX() + width > SCREEN_WIDTH) {
-            position.setX(SCREEN_WIDTH - width);
+        } else if (position.getX() + width > playfield.getWidth()) {
+            position.setX(playfield.getWidth() - width);
         }
     }
 
@@ -0,0 +1,42 @@
+package object_fight.gameobjects.bricks;
+
+/**
+ * @author jairo
+ */
+
+import java.awt.*;
+
+import static object_fight.utils.Constants.BRICK_BASE_COLOR;
+import static object_fight.utils.Constants.BRICK_BORDER_COLOR;
+
+/**
+ * Dibujo de los ladrillos normales, con un aspecto metálico de color base y
+ * borde. Los datos de los ladrillos viven en {@link BrickField}; esta clase
+ * solo los pinta, y la usa {@code SpriteCache} para preparar sus sprites.
+ */
+public final class Brick {
+
+    private Brick() {
+    }
+
+    /**
+     * Dibuja un ladrillo normal con efecto metálico en la posición indicada.
+     *
+     * @param g Contexto gráfico para dibujar
+     * @param x Coordenada X de la esquina superior izquierda
+     * @param y Coordenada Y de la esquina superior izquierda
+     * @param width Ancho del ladrillo
+     * @param height Alto del ladrillo
+     */
+    public static void paint(Graphics g, int x, int y, int width, int height) {
+        Graphics2D g2d = (Graphics2D) g;
+
+        // Dibujar el cuerpo principal del ladrillo
+        g2d.setColor(BRICK_BASE_COLOR);
+        g2d.fillRect(x, y, width, height);
+
+        // Dibujar el borde metálico
+        g2d.setColor(BRICK_BORDER_COLOR);
+        g2d.drawRect(x, y, width, height);
+    }
+}
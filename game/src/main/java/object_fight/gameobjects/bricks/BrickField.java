@@ -0,0 +1,396 @@
+package object_fight.gameobjects.bricks;
+
+/**
+ * @author jairo
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Almacén de los ladrillos de un nivel organizado como estructura de arrays.
+ * Cada ladrillo es un índice en arrays paralelos de tipos primitivos (posición,
+ * tamaño, tipo, golpes restantes y un conjunto de bits de vida), en lugar de un
+ * objeto con sus propios vectores y collider. Así las pasadas de
+ * actualización, colisión y renderizado recorren memoria contigua sin saltar
+ * entre objetos.
+ *
+ * Los ladrillos móviles guardan además sus datos de movimiento en una lista
+ * aparte, de modo que la actualización solo recorre los que se mueven. Las
+ * clases {@link Brick}, {@link ResistantBrick} y {@link UnbreakableBrick} solo
+ * dibujan cada tipo.
+ *
+ * Cada cambio visible en los ladrillos que no se mueven (carga de nivel,
+ * golpes y destrucciones) cambia su versión, de modo que el renderizado puede
+ * conservar una capa con los ladrillos estáticos y solo volver a dibujarla
+ * cuando la versión cambia.
+ */
+public class BrickField {
+
+    // Tipos indexados por ordinal, para no crear el array de values() en cada consulta
+    private static final BrickType[] TYPES = BrickType.values();
+
+    // Origen de las versiones, compartido para que dos almacenes nunca repitan versión
+    private static final AtomicLong STATIC_VERSIONS = new AtomicLong();
+
+    // Número de ladrillos del nivel
+    private int count;
+
+    // Posición actual y del tick anterior, usada para interpolar el renderizado
+    private float[] x;
+    private float[] y;
+    private float[] previousX;
+    private float[] previousY;
+
+    // Tamaño de cada ladrillo
+    private float[] width;
+    private float[] height;
+
+    // Tipo (ordinal de BrickType) y golpes restantes
+    private byte[] type;
+    private byte[] hits;
+
+    // Conjunto de bits con los ladrillos vivos
+    private long[] alive;
+
+    // Ladrillos rompibles que siguen vivos, mantenido al añadir y destruir
+    private int breakableAlive;
+
+    // Ladrillos móviles: índice del ladrillo y datos de su movimiento
+    private int movableCount;
+    private int[] movableIndex;
+    private float[] movableOriginX;
+    private float[] movableRange;
+    private float[] movableSpeed;
+    private byte[] movableDirection;
+
+    // Versión de los ladrillos estáticos y aviso de que ha cambiado desde la última consulta
+    private long staticVersion;
+    private boolean staticChanged = true;
+
+    /**
+     * Constructor del almacén de ladrillos.
+     *
+     * @param initialCapacity Número de ladrillos reservados inicialmente
+     */
+    public BrickField(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        type = new byte[capacity];
+        hits = new byte[capacity];
+        alive = new long[(capacity + 63) >>> 6];
+
+        movableIndex = new int[1];
+        movableOriginX = new float[1];
+        movableRange = new float[1];
+        movableSpeed = new float[1];
+        movableDirection = new byte[1];
+    }
+
+    /**
+     * Elimina todos los ladrillos conservando la memoria reservada.
+     */
+    public void clear() {
+        count = 0;
+        movableCount = 0;
+        breakableAlive = 0;
+        Arrays.fill(alive, 0L);
+        staticChanged = true;
+    }
+
+    /**
+     * Añade un ladrillo estático.
+     *
+     * @param brickType Tipo del ladrillo
+     * @param brickX Coordenada X de la esquina superior izquierda
+     * @param brickY Coordenada Y de la esquina superior izquierda
+     * @param brickWidth Ancho del ladrillo
+     * @param brickHeight Alto del ladrillo
+     * @return Índice del ladrillo añadido
+     */
+    public int add(BrickType brickType, float brickX, float brickY, float brickWidth, float brickHeight) {
+        int initialHits = brickType == BrickType.RESISTANT ? RESISTANT_BRICK_INITIAL_HITS : 1;
+        return add(brickType, brickX, brickY, brickWidth, brickHeight, initialHits);
+    }
+
+    /**
+     * Añade un ladrillo estático con un número de golpes concreto.
+     *
+     * @param brickType Tipo del ladrillo
+     * @param brickX Coordenada X de la esquina superior izquierda
+     * @param brickY Coordenada Y de la esquina superior izquierda
+     * @param brickWidth Ancho del ladrillo
+     * @param brickHeight Alto del ladrillo
+     * @param initialHits Golpes necesarios para destruirlo
+     * @return Índice del ladrillo añadido
+     */
+    public int add(BrickType brickType, float brickX, float brickY, float brickWidth, float brickHeight,
+                   int initialHits) {
+        ensureCapacity(count + 1);
+
+        int index = count++;
+        x[index] = brickX;
+        y[index] = brickY;
+        previousX[index] = brickX;
+        previousY[index] = brickY;
+        width[index] = brickWidth;
+        height[index] = brickHeight;
+        type[index] = (byte) brickType.ordinal();
+        hits[index] = (byte) initialHits;
+        alive[index >>> 6] |= 1L << index;
+        if (brickType != BrickType.UNBREAKABLE) {
+            breakableAlive++;
+        }
+        if (brickType != BrickType.MOVABLE) {
+            staticChanged = true;
+        }
+        return index;
+    }
+
+    /**
+     * Añade un ladrillo que se desplaza horizontalmente de un lado a otro
+     * dentro de un rango alrededor de su posición inicial.
+     *
+     * @param brickX Coordenada X inicial
+     * @param brickY Coordenada Y
+     * @param brickWidth Ancho del ladrillo
+     * @param brickHeight Alto del ladrillo
+     * @param range Distancia máxima que puede alejarse de la posición inicial
+     * @param direction Dirección inicial (1 derecha, -1 izquierda)
+     * @param speed Píxeles que avanza en cada tick
+     * @return Índice del ladrillo añadido
+     */
+    public int addMovable(float brickX, float brickY, float brickWidth, float brickHeight,
+                          float range, int direction, float speed) {
+        int index = add(BrickType.MOVABLE, brickX, brickY, brickWidth, brickHeight);
+
+        if (movableCount == movableIndex.length) {
+            int capacity = movableCount * 2;
+            movableIndex = Arrays.copyOf(movableIndex, capacity);
+            movableOriginX = Arrays.copyOf(movableOriginX, capacity);
+            movableRange = Arrays.copyOf(movableRange, capacity);
+            movableSpeed = Arrays.copyOf(movableSpeed, capacity);
+            movableDirection = Arrays.copyOf(movableDirection, capacity);
+        }
+
+        int slot = movableCount++;
+        movableIndex[slot] = index;
+        movableOriginX[slot] = brickX;
+        movableRange[slot] = range;
+        movableSpeed[slot] = speed;
+        movableDirection[slot] = (byte) direction;
+        return index;
+    }
+
+    /**
+     * Guarda la posición actual de todos los ladrillos como la del tick
+     * anterior.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, previousX, 0, count);
+        System.arraycopy(y, 0, previousY, 0, count);
+    }
+
+    /**
+     * Mueve los ladrillos móviles. Cada uno avanza en su dirección y la
+     * invierte al alcanzar el límite de su rango.
+     */
+    public void update() {
+        for (int slot = 0; slot < movableCount; slot++) {
+            int index = movableIndex[slot];
+            x[index] += movableDirection[slot] * movableSpeed[slot];
+
+            if (Math.abs(x[index] - movableOriginX[slot]) >= movableRange[slot]) {
+                movableDirection[slot] = (byte) -movableDirection[slot];
+            }
+        }
+    }
+
+    /**
+     * Aplica un golpe de la bola a un ladrillo. Los ladrillos irrompibles no
+     * reciben daño.
+     *
+     * @param index Índice del ladrillo golpeado
+     * @return true si el golpe ha destruido el ladrillo
+     */
+    public boolean hit(int index) {
+        if (!isAlive(index) || type[index] == BrickType.UNBREAKABLE.ordinal()) {
+            return false;
+        }
+
+        // Cambia la fase de daño o desaparece, así que cambia su dibujo
+        if (type[index] != BrickType.MOVABLE.ordinal()) {
+            staticChanged = true;
+        }
+
+        if (--hits[index] > 0) {
+            return false;
+        }
+
+        alive[index >>> 6] &= ~(1L << index);
+        breakableAlive--;
+        return true;
+    }
+
+    /**
+     * Reserva memoria para el número de ladrillos indicado, evitando que los
+     * arrays crezcan varias veces al cargar un nivel grande.
+     *
+     * @param capacity Número total de ladrillos previstos
+     */
+    public void reserve(int capacity) {
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Asegura que los arrays tienen al menos la capacidad indicada.
+     *
+     * @param capacity Número de ladrillos a almacenar
+     */
+    private void ensureCapacity(int capacity) {
+        if (x.length >= capacity) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, x.length * 2);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        width = Arrays.copyOf(width, newCapacity);
+        height = Arrays.copyOf(height, newCapacity);
+        type = Arrays.copyOf(type, newCapacity);
+        hits = Arrays.copyOf(hits, newCapacity);
+        alive = Arrays.copyOf(alive, (newCapacity + 63) >>> 6);
+    }
+
+    /**
+     * Calcula el tamaño medio de los ladrillos vivos, tomando de cada uno la
+     * mayor de sus dos dimensiones.
+     *
+     * @return Tamaño medio, o 0 si no queda ningún ladrillo vivo
+     */
+    public float getAverageSize() {
+        double total = 0;
+        int alive = 0;
+        for (int i = 0; i < count; i++) {
+            if (isAlive(i)) {
+                total += Math.max(width[i], height[i]);
+                alive++;
+            }
+        }
+        return alive == 0 ? 0f : (float) (total / alive);
+    }
+
+    // Getters
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Indica si no queda ningún ladrillo rompible vivo. Es una consulta
+     * constante: el contador se actualiza al destruir cada ladrillo.
+     *
+     * @return true si todos los ladrillos rompibles han sido destruidos
+     */
+    public boolean isCleared() {
+        return breakableAlive == 0;
+    }
+
+    public int getBreakableAliveCount() {
+        return breakableAlive;
+    }
+
+    public boolean isAlive(int index) {
+        return (alive[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public float getPreviousX(int index) {
+        return previousX[index];
+    }
+
+    public float getPreviousY(int index) {
+        return previousY[index];
+    }
+
+    public float getWidth(int index) {
+        return width[index];
+    }
+
+    public float getHeight(int index) {
+        return height[index];
+    }
+
+    public BrickType getType(int index) {
+        return TYPES[type[index]];
+    }
+
+    public int getHitsRemaining(int index) {
+        return hits[index];
+    }
+
+    public boolean isMovable(int index) {
+        return type[index] == BrickType.MOVABLE.ordinal();
+    }
+
+    /**
+     * Devuelve la versión del aspecto de los ladrillos estáticos. Cambia cada
+     * vez que se carga un nivel o un ladrillo estático recibe un golpe que
+     * cambia su dibujo, y no se repite nunca entre almacenes distintos.
+     *
+     * @return Versión de los ladrillos estáticos
+     */
+    public long getStaticVersion() {
+        if (staticChanged) {
+            staticVersion = STATIC_VERSIONS.incrementAndGet();
+            staticChanged = false;
+        }
+        return staticVersion;
+    }
+
+    public int getMovableCount() {
+        return movableCount;
+    }
+
+    public int getMovableIndex(int slot) {
+        return movableIndex[slot];
+    }
+
+    /**
+     * Devuelve el borde izquierdo más alejado que puede alcanzar un ladrillo
+     * móvil. Al llegar al límite de su rango todavía avanza un paso antes de
+     * darse la vuelta, así que se cuenta también su velocidad.
+     *
+     * @param slot Posición del ladrillo entre los móviles
+     * @return Coordenada X mínima de su recorrido
+     */
+    public float getMovableMinX(int slot) {
+        return movableOriginX[slot] - movableRange[slot] - movableSpeed[slot];
+    }
+
+    /**
+     * Devuelve el borde derecho más alejado que puede alcanzar un ladrillo
+     * móvil, contando igual que {@link #getMovableMinX(int)}.
+     *
+     * @param slot Posición del ladrillo entre los móviles
+     * @return Coordenada X máxima de su recorrido
+     */
+    public float getMovableMaxX(int slot) {
+        return movableOriginX[slot] + movableRange[slot] + movableSpeed[slot] + width[movableIndex[slot]];
+    }
+}
@@ -0,0 +1,24 @@
+package object_fight.gameobjects.bricks;
+
+/**
+ * @author jairo
+ */
+
+/**
+ * Tipos de ladrillo del juego. Permite identificar el comportamiento y el
+ * aspecto de un ladrillo sin necesidad de conservar el objeto.
+ */
+public enum BrickType {
+
+    // Ladrillo normal, se destruye con un golpe
+    NORMAL,
+
+    // Ladrillo que necesita varios golpes para destruirse
+    RESISTANT,
+
+    // Ladrillo que no se puede destruir
+    UNBREAKABLE,
+
+    // Ladrillo normal que se desplaza horizontalmente
+    MOVABLE
+}
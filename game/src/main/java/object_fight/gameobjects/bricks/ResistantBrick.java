@@ -4,68 +4,32 @@ package object_fight.gameobjects.bricks;
  * @author jairo
  */
 
-import object_fight.gameobjects.Ball;
-import object_fight.gameobjects.GameObject;
-import object_fight.utils.Vector2D;
-
 import java.awt.*;
 
 import static object_fight.utils.Constants.*;
 
 /**
- * Clase que representa un ladrillo resistente que necesita múltiples golpes
- * para ser destruido.
- *
+ * Dibujo de los ladrillos resistentes, que necesitan varios golpes para
+ * romperse y cuyo aspecto cambia según el daño recibido.
  */
-public class ResistantBrick extends Brick {
-
-    // Contador de golpes restantes para destruir el ladrillo
-    private int hitsRemaining;
+public final class ResistantBrick {
 
-    /**
-     * Constructor del ladrillo resistente. Inicializa el ladrillo con la
-     * cantidad máxima de golpes.
-     *
-     * @param position Posición inicial del ladrillo
-     * @param width Ancho del ladrillo
-     * @param height Alto del ladrillo
-     */
-    public ResistantBrick(Vector2D position, int width, int height) {
-        super(position, width, height);
-        this.hitsRemaining = RESISTANT_BRICK_INITIAL_HITS;
-    }
-
-    /**
-     * Maneja las colisiones y reduce la resistencia del ladrillo. Cada vez que
-     * la bola golpea el ladrillo, reduce el contador de golpes y destruye el
-     * ladrillo cuando llega a cero.
-     *
-     * @param other Objeto con el que colisiona
-     */
-    @Override
-    public void handleCollision(GameObject other) {
-        if (other instanceof Ball && isAlive()) {
-            hitsRemaining--;
-            if (hitsRemaining <= 0) {
-                setAlive(false);
-            }
-        }
+    private ResistantBrick() {
     }
 
     /**
-     * Renderiza el ladrillo con efectos visuales que cambian según el daño.
+     * Dibuja un ladrillo resistente cuyo aspecto depende de los golpes que le
+     * quedan.
      *
      * @param g Contexto gráfico para dibujar
+     * @param x Coordenada X de la esquina superior izquierda
+     * @param y Coordenada Y de la esquina superior izquierda
+     * @param width Ancho del ladrillo
+     * @param height Alto del ladrillo
+     * @param hitsRemaining Golpes restantes para destruir el ladrillo
      */
-    @Override
-    public void render(Graphics g) {
-        if (!isAlive()) {
-            return;
-        }
-
+    public static void paint(Graphics g, int x, int y, int width, int height, int hitsRemaining) {
         Graphics2D g2d = (Graphics2D) g;
-        int x = (int) position.getX();
-        int y = (int) position.getY();
 
         // Determinar el color base según la fase de daño
         Color[] crystalColors = {
@@ -114,13 +78,4 @@ public class ResistantBrick extends Brick {
         g2d.setColor(Color.BLACK);
         g2d.drawRect(x, y, width, height);
     }
-
-    /**
-     * Obtiene el número de golpes restantes para destruir el ladrillo.
-     *
-     * @return Número de golpes restantes
-     */
-    public int getHitsRemaining() {
-        return hitsRemaining;
-    }
 }
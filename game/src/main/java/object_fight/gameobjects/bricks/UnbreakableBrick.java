@@ -4,53 +4,29 @@ package object_fight.gameobjects.bricks;
  * @author jairo
  */
 
-import object_fight.gameobjects.GameObject;
-import object_fight.utils.SoundManager;
-import object_fight.utils.Vector2D;
-
 import java.awt.*;
 
 import static object_fight.utils.Constants.*;
 
 /**
- * Clase que epresenta un ladrillo irrompible en el juego.
- *
+ * Dibujo de los ladrillos irrompibles, con borde grueso y textura diagonal.
  */
-public class UnbreakableBrick extends Brick {
+public final class UnbreakableBrick {
 
-    /**
-     * Constructor del ladrillo irrompible.
-     *
-     * @param position Posición inicial del ladrillo
-     * @param width Ancho del ladrillo
-     * @param height Alto del ladrillo
-     */
-    public UnbreakableBrick(Vector2D position, int width, int height) {
-        super(position, width, height);
-    }
-
-    /**
-     * Sobrescribe el manejo de colisiones para que el ladrillo no pueda ser
-     * destruido.
-     *
-     * @param other Objeto con el que colisiona
-     */
-    @Override
-    public void handleCollision(GameObject other) {
-        // Los ladrillos irrompibles no reaccionan a las colisiones
-        SoundManager.getInstance().playSound("ballCollision"); // Simplemente se reproduce el sonido de colisión de la bola
+    private UnbreakableBrick() {
     }
 
     /**
-     * Renderiza el ladrillo irrompible con un diseño especial.
+     * Dibuja un ladrillo irrompible con borde grueso y textura diagonal.
      *
      * @param g Contexto gráfico para dibujar
+     * @param x Coordenada X de la esquina superior izquierda
+     * @param y Coordenada Y de la esquina superior izquierda
+     * @param width Ancho del ladrillo
+     * @param height Alto del ladrillo
      */
-    @Override
-    public void render(Graphics g) {
+    public static void paint(Graphics g, int x, int y, int width, int height) {
         Graphics2D g2d = (Graphics2D) g;
-        int x = (int) position.getX();
-        int y = (int) position.getY();
 
         // Dibujar el fondo del ladrillo
         g2d.setColor(UNBREAKABLE_BRICK_BASE_COLOR);
@@ -82,13 +58,4 @@ public class UnbreakableBrick extends Brick {
             g2d.drawLine(x1, y1, x2, y2);
         }
     }
-
-    /**
-     * Se actualiza el estado del ladrillo irrompible.
-     */
-    @Override
-    public void update() {
-        super.update();
-    }
 }
-
@@ -0,0 +1,96 @@
+package object_fight.levels;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.gameobjects.bricks.BrickType;
+
+/**
+ * Nivel ya decodificado de un paquete de niveles. Guarda los ladrillos en
+ * arrays primitivos paralelos, igual que {@link BrickField}, para poder
+ * volcarlos al almacén de la partida en una sola pasada. Es inmutable una vez
+ * creado, por lo que varias partidas pueden compartir la misma instancia desde
+ * la caché del paquete.
+ */
+public class LevelData {
+
+    // Tipos indexados por ordinal
+    private static final BrickType[] TYPES = BrickType.values();
+
+    // Número del nivel dentro del paquete (empezando en 1)
+    private final int number;
+
+    // Indica si el paddle cambia de tamaño durante el nivel
+    private final boolean paddleResize;
+
+    // Ladrillos del nivel
+    private final int brickCount;
+    private final byte[] type;
+    private final byte[] hits;
+    private final byte[] direction;
+    private final float[] offsetX;
+    private final float[] y;
+    private final float[] width;
+    private final float[] height;
+    private final float[] range;
+    private final float[] speed;
+
+    /**
+     * Constructor del nivel. Los arrays pasan a ser propiedad del nivel.
+     */
+    LevelData(int number, boolean paddleResize, int brickCount,
+              byte[] type, byte[] hits, byte[] direction,
+              float[] offsetX, float[] y, float[] width, float[] height,
+              float[] range, float[] speed) {
+        this.number = number;
+        this.paddleResize = paddleResize;
+        this.brickCount = brickCount;
+        this.type = type;
+        this.hits = hits;
+        this.direction = direction;
+        this.offsetX = offsetX;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.range = range;
+        this.speed = speed;
+    }
+
+    /**
+     * Vuelca los ladrillos del nivel en el almacén de la partida, centrados
+     * horizontalmente en la coordenada indicada.
+     *
+     * @param field Almacén de ladrillos de la partida
+     * @param centerX Centro horizontal del área de juego
+     */
+    public void loadInto(BrickField field, float centerX) {
+        field.clear();
+        field.reserve(brickCount);
+
+        for (int i = 0; i < brickCount; i++) {
+            BrickType brickType = TYPES[type[i]];
+            float x = centerX + offsetX[i];
+
+            if (brickType == BrickType.MOVABLE) {
+                field.addMovable(x, y[i], width[i], height[i], range[i], direction[i], speed[i]);
+            } else {
+                field.add(brickType, x, y[i], width[i], height[i], hits[i]);
+            }
+        }
+    }
+
+    // Getters
+    public int getNumber() {
+        return number;
+    }
+
+    public boolean isPaddleResize() {
+        return paddleResize;
+    }
+
+    public int getBrickCount() {
+        return brickCount;
+    }
+}
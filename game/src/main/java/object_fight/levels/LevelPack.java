@@ -0,0 +1,230 @@
+package object_fight.levels;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.utils.PlayfieldConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Paquete de niveles en formato binario (ver {@link LevelPackCompiler}). Los
+ * paquetes en disco se proyectan en memoria con {@link FileChannel#map}, de
+ * modo que abrir un paquete no copia nada y cada nivel se decodifica leyendo
+ * directamente sus registros de tamaño fijo.
+ *
+ * Los niveles decodificados se guardan en una caché LRU, por lo que reiniciar
+ * una partida o simular muchas partidas en paralelo con el mismo paquete no
+ * vuelve a decodificar los mismos niveles.
+ */
+public class LevelPack implements LevelSource {
+
+    // Formato binario del paquete
+    static final int MAGIC = 0x4F464C50; // "OFLP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int INDEX_ENTRY_SIZE = 12;
+    static final int RECORD_SIZE = 28;
+    static final int FLAG_PADDLE_RESIZE = 1;
+
+    // Paquete por defecto, cargado la primera vez que se pide
+    private static LevelPack defaultPack;
+
+    // Contenido binario del paquete
+    private final ByteBuffer data;
+    private final int levelCount;
+
+    // Caché LRU de niveles decodificados, ordenada por acceso
+    private final Map<Integer, LevelData> cache;
+
+    /**
+     * Constructor del paquete. Valida la cabecera del contenido binario.
+     *
+     * @param data Contenido binario del paquete
+     * @param cacheCapacity Número máximo de niveles decodificados en caché
+     */
+    public LevelPack(ByteBuffer data, int cacheCapacity) {
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("No es un paquete de niveles válido");
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Versión de paquete de niveles no soportada: " + data.getShort(4));
+        }
+
+        this.data = data;
+        this.levelCount = data.getShort(6);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, LevelData> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Abre un paquete binario en disco proyectándolo en memoria.
+     *
+     * @param file Ruta del paquete binario
+     * @return Paquete de niveles
+     * @throws IOException Si no se puede abrir el fichero
+     */
+    public static LevelPack open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // La proyección sigue siendo válida después de cerrar el canal
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new LevelPack(mapped, LEVEL_CACHE_CAPACITY);
+        }
+    }
+
+    /**
+     * Carga un paquete desde el classpath. Dentro de un jar no se puede
+     * proyectar en memoria, así que se lee completo en un buffer.
+     *
+     * @param resource Ruta del recurso binario
+     * @return Paquete de niveles
+     * @throws IOException Si el recurso no existe o no se puede leer
+     */
+    public static LevelPack fromResource(String resource) throws IOException {
+        try (InputStream in = LevelPack.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("No se encuentra el paquete de niveles: " + resource);
+            }
+            return new LevelPack(ByteBuffer.wrap(in.readAllBytes()), LEVEL_CACHE_CAPACITY);
+        }
+    }
+
+    /**
+     * Compila en memoria una fuente de texto del classpath. Se usa cuando el
+     * binario no se ha generado, por ejemplo al ejecutar desde un IDE sin
+     * pasar por Maven.
+     *
+     * @param resource Ruta de la fuente de texto
+     * @return Paquete de niveles
+     * @throws IOException Si el recurso no existe o no se puede leer
+     */
+    public static LevelPack compileResource(String resource) throws IOException {
+        try (InputStream in = LevelPack.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("No se encuentra la fuente de niveles: " + resource);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            LevelPackCompiler.compile(new InputStreamReader(in, StandardCharsets.UTF_8), out);
+            return new LevelPack(ByteBuffer.wrap(out.toByteArray()), LEVEL_CACHE_CAPACITY);
+        }
+    }
+
+    /**
+     * Devuelve el paquete de niveles por defecto. Si la propiedad del sistema
+     * {@code object_fight.levelPack} apunta a un fichero, se proyecta ese
+     * paquete; si no, se usa el incluido en el juego.
+     *
+     * @return Paquete de niveles por defecto
+     */
+    public static synchronized LevelPack getDefault() {
+        if (defaultPack == null) {
+            try {
+                String external = System.getProperty(LEVEL_PACK_PROPERTY);
+                if (external != null) {
+                    defaultPack = open(Path.of(external));
+                } else if (LevelPack.class.getResource(DEFAULT_LEVEL_PACK) != null) {
+                    defaultPack = fromResource(DEFAULT_LEVEL_PACK);
+                } else {
+                    defaultPack = compileResource(DEFAULT_LEVEL_SOURCE);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo cargar el paquete de niveles", e);
+            }
+        }
+        return defaultPack;
+    }
+
+    /**
+     * Obtiene un nivel decodificado, desde la caché si ya se había cargado.
+     *
+     * @param number Número del nivel, empezando en 1
+     * @return Nivel decodificado
+     */
+    public synchronized LevelData getLevel(int number) {
+        if (number < 1 || number > levelCount) {
+            throw new IllegalArgumentException("Nivel fuera del paquete: " + number);
+        }
+
+        LevelData level = cache.get(number);
+        if (level == null) {
+            level = decode(number);
+            cache.put(number, level);
+        }
+        return level;
+    }
+
+    /**
+     * Decodifica los registros de un nivel a arrays primitivos con lecturas
+     * absolutas sobre el buffer, sin modificar su posición.
+     *
+     * @param number Número del nivel
+     * @return Nivel decodificado
+     */
+    private LevelData decode(int number) {
+        int entry = HEADER_SIZE + (number - 1) * INDEX_ENTRY_SIZE;
+        int offset = data.getInt(entry);
+        int brickCount = data.getInt(entry + 4);
+        int flags = data.getInt(entry + 8);
+
+        byte[] type = new byte[brickCount];
+        byte[] hits = new byte[brickCount];
+        byte[] direction = new byte[brickCount];
+        float[] offsetX = new float[brickCount];
+        float[] y = new float[brickCount];
+        float[] width = new float[brickCount];
+        float[] height = new float[brickCount];
+        float[] range = new float[brickCount];
+        float[] speed = new float[brickCount];
+
+        int position = offset;
+        for (int i = 0; i < brickCount; i++) {
+            type[i] = data.get(position);
+            hits[i] = data.get(position + 1);
+            direction[i] = data.get(position + 2);
+            offsetX[i] = data.getFloat(position + 4);
+            y[i] = data.getFloat(position + 8);
+            width[i] = data.getFloat(position + 12);
+            height[i] = data.getFloat(position + 16);
+            range[i] = data.getFloat(position + 20);
+            speed[i] = data.getFloat(position + 24);
+            position += RECORD_SIZE;
+        }
+
+        return new LevelData(number, (flags & FLAG_PADDLE_RESIZE) != 0, brickCount,
+                type, hits, direction, offsetX, y, width, height, range, speed);
+    }
+
+    @Override
+    public void loadLevel(int number, BrickField field, PlayfieldConfig playfield) {
+        getLevel(number).loadInto(field, playfield.getWidth() / 2);
+    }
+
+    @Override
+    public boolean isPaddleResize(int number) {
+        return getLevel(number).isPaddleResize();
+    }
+
+    @Override
+    public int getLevelCount() {
+        return levelCount;
+    }
+}
@@ -0,0 +1,195 @@
+package object_fight.levels;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.gameobjects.bricks.BrickType;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static object_fight.utils.Constants.RESISTANT_BRICK_INITIAL_HITS;
+
+/**
+ * Compilador de paquetes de niveles. Convierte la fuente de texto legible
+ * (ver {@code levels/default.txt}) al formato binario de registros fijos que
+ * lee {@link LevelPack}:
+ *
+ * <pre>
+ * cabecera:  magic (int) | versión (short) | número de niveles (short)
+ * índice:    por nivel, desplazamiento (int) | ladrillos (int) | opciones (int)
+ * registros: por ladrillo, tipo | golpes | dirección | reservado (bytes)
+ *            dx | y | ancho | alto | rango | velocidad (floats)
+ * </pre>
+ *
+ * Se usa durante la construcción del proyecto y también se puede ejecutar a
+ * mano para generar paquetes nuevos sin recompilar el juego:
+ * {@code java object_fight.levels.LevelPackCompiler fuente.txt destino.bin}
+ */
+public class LevelPackCompiler {
+
+    /**
+     * Compila una fuente de texto y escribe el paquete binario.
+     *
+     * @param source Fuente de texto del paquete
+     * @param target Flujo donde se escribe el paquete binario
+     * @throws IOException Si falla la lectura o la escritura
+     * @throws IllegalArgumentException Si la fuente contiene errores
+     */
+    public static void compile(Reader source, OutputStream target) throws IOException {
+        List<ByteArrayOutputStream> levels = new ArrayList<>();
+        List<Integer> brickCounts = new ArrayList<>();
+        List<Integer> flags = new ArrayList<>();
+
+        DataOutputStream records = null;
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] tokens = line.split("\\s+");
+            try {
+                if (tokens[0].equals("level")) {
+                    // Se empieza un nivel nuevo, numerados de forma consecutiva
+                    int number = Integer.parseInt(tokens[1]);
+                    if (number != levels.size() + 1) {
+                        throw new IllegalArgumentException("se esperaba el nivel " + (levels.size() + 1));
+                    }
+                    boolean resize = tokens.length > 2 && tokens[2].equals("resize");
+
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    levels.add(buffer);
+                    brickCounts.add(0);
+                    flags.add(resize ? LevelPack.FLAG_PADDLE_RESIZE : 0);
+                    records = new DataOutputStream(buffer);
+                } else {
+                    if (records == null) {
+                        throw new IllegalArgumentException("ladrillo fuera de un nivel");
+                    }
+                    writeBrick(records, tokens);
+                    int last = brickCounts.size() - 1;
+                    brickCounts.set(last, brickCounts.get(last) + 1);
+                }
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Línea " + lineNumber + ": formato no válido: " + line, e);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Línea " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        writePack(target, levels, brickCounts, flags);
+    }
+
+    /**
+     * Escribe el registro binario de un ladrillo a partir de sus campos de
+     * texto.
+     */
+    private static void writeBrick(DataOutputStream records, String[] tokens) throws IOException {
+        BrickType type = BrickType.valueOf(tokens[0].toUpperCase(Locale.ROOT));
+        float offsetX = Float.parseFloat(tokens[1]);
+        float y = Float.parseFloat(tokens[2]);
+        float width = Float.parseFloat(tokens[3]);
+        float height = Float.parseFloat(tokens[4]);
+
+        int hits = 1;
+        int direction = 0;
+        float range = 0f;
+        float speed = 0f;
+
+        switch (type) {
+            case RESISTANT ->
+                    hits = tokens.length > 5 ? Integer.parseInt(tokens[5]) : RESISTANT_BRICK_INITIAL_HITS;
+            case MOVABLE -> {
+                range = Float.parseFloat(tokens[5]);
+                direction = Integer.parseInt(tokens[6]);
+                speed = Float.parseFloat(tokens[7]);
+            }
+            default -> {
+            }
+        }
+
+        if (width <= 0 || height <= 0 || hits < 1 || hits > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("dimensiones o golpes fuera de rango");
+        }
+
+        records.writeByte(type.ordinal());
+        records.writeByte(hits);
+        records.writeByte(direction);
+        records.writeByte(0);
+        records.writeFloat(offsetX);
+        records.writeFloat(y);
+        records.writeFloat(width);
+        records.writeFloat(height);
+        records.writeFloat(range);
+        records.writeFloat(speed);
+    }
+
+    /**
+     * Escribe la cabecera, el índice y los registros de todos los niveles.
+     */
+    private static void writePack(OutputStream target, List<ByteArrayOutputStream> levels,
+                                  List<Integer> brickCounts, List<Integer> flags) throws IOException {
+        if (levels.isEmpty() || levels.size() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("El paquete debe tener entre 1 y " + Short.MAX_VALUE + " niveles");
+        }
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(LevelPack.MAGIC);
+        out.writeShort(LevelPack.VERSION);
+        out.writeShort(levels.size());
+
+        int offset = LevelPack.HEADER_SIZE + levels.size() * LevelPack.INDEX_ENTRY_SIZE;
+        for (int i = 0; i < levels.size(); i++) {
+            out.writeInt(offset);
+            out.writeInt(brickCounts.get(i));
+            out.writeInt(flags.get(i));
+            offset += levels.get(i).size();
+        }
+
+        for (ByteArrayOutputStream level : levels) {
+            level.writeTo(out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Compila un paquete de niveles desde la línea de comandos.
+     *
+     * @param args Fichero de texto de origen y fichero binario de destino
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: LevelPackCompiler <fuente.txt> <destino.bin>");
+            System.exit(1);
+        }
+
+        Path source = Path.of(args[0]);
+        Path target = Path.of(args[1]);
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+
+        try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+             OutputStream out = Files.newOutputStream(target)) {
+            compile(reader, out);
+        }
+        System.out.println("Paquete de niveles generado: " + target);
+    }
+}
@@ -0,0 +1,42 @@
+package object_fight.levels;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.utils.PlayfieldConfig;
+
+/**
+ * Interfaz que define el origen de los niveles de una partida. La partida solo
+ * necesita saber cuántos niveles hay y pedir que se vuelquen los ladrillos de
+ * cada uno en su almacén, sin importar si vienen de un paquete de niveles o se
+ * generan al vuelo.
+ */
+public interface LevelSource {
+
+    /**
+     * Devuelve el número de niveles disponibles.
+     *
+     * @return Número de niveles
+     */
+    int getLevelCount();
+
+    /**
+     * Vuelca los ladrillos de un nivel en el almacén de la partida,
+     * sustituyendo los que hubiera.
+     *
+     * @param number Número del nivel, empezando en 1
+     * @param field Almacén de ladrillos de la partida
+     * @param playfield Área de juego en la que se colocan los ladrillos
+     */
+    void loadLevel(int number, BrickField field, PlayfieldConfig playfield);
+
+    /**
+     * Indica si el paddle cambia de tamaño durante el nivel.
+     *
+     * @param number Número del nivel, empezando en 1
+     * @return true si el redimensionado del paddle está activo
+     */
+    boolean isPaddleResize(int number);
+}
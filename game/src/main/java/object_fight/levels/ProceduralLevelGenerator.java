@@ -0,0 +1,138 @@
+package object_fight.levels;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.gameobjects.bricks.BrickType;
+import object_fight.utils.PlayfieldConfig;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Generador de niveles procedurales para pruebas de carga y de escalado. Reparte
+ * un número exacto de ladrillos sobre una rejilla que cubre la parte superior
+ * del área de juego, con la densidad indicada y mezclando todos los tipos de
+ * ladrillo. Los ladrillos se escriben directamente en el {@link BrickField} de
+ * la partida a medida que se generan, sin listas intermedias, por lo que sirve
+ * igual para 100 que para un millón de ladrillos.
+ *
+ * Cada nivel usa su propio generador aleatorio derivado de la semilla, así que
+ * el mismo generador produce siempre los mismos niveles y puede compartirse
+ * entre partidas que se simulan en paralelo.
+ */
+public class ProceduralLevelGenerator implements LevelSource {
+
+    // Configuración de la generación
+    private final long seed;
+    private final int levelCount;
+    private final int brickCount;
+    private final double density;
+
+    /**
+     * Constructor del generador.
+     *
+     * @param seed Semilla de la que se derivan todos los niveles
+     * @param levelCount Número de niveles que se generan
+     * @param brickCount Número de ladrillos de cada nivel
+     * @param density Fracción de las celdas de la rejilla ocupadas, entre 0 y 1
+     */
+    public ProceduralLevelGenerator(long seed, int levelCount, int brickCount, double density) {
+        if (levelCount <= 0 || brickCount <= 0) {
+            throw new IllegalArgumentException("El número de niveles y de ladrillos debe ser positivo");
+        }
+        if (density <= 0 || density > 1) {
+            throw new IllegalArgumentException("La densidad debe estar entre 0 y 1: " + density);
+        }
+        this.seed = seed;
+        this.levelCount = levelCount;
+        this.brickCount = brickCount;
+        this.density = density;
+    }
+
+    /**
+     * Genera los ladrillos de un nivel. La rejilla tiene tantas celdas como
+     * hacen falta para la densidad pedida y conserva la proporción de la zona
+     * de ladrillos. Las celdas se recorren una vez y cada una se ocupa con
+     * probabilidad (ladrillos pendientes / celdas pendientes), lo que coloca
+     * exactamente el número de ladrillos pedido repartidos de forma uniforme.
+     *
+     * @param number Número del nivel, empezando en 1
+     * @param field Almacén de ladrillos de la partida
+     * @param playfield Área de juego en la que se colocan los ladrillos
+     */
+    @Override
+    public void loadLevel(int number, BrickField field, PlayfieldConfig playfield) {
+        RandomGenerator random = RandomGeneratorFactory.of(GAME_RANDOM_ALGORITHM)
+                .create(seed ^ (number * 0x9E3779B97F4A7C15L));
+
+        // Zona superior del área de juego reservada a los ladrillos
+        float areaX = PROCEDURAL_SIDE_MARGIN;
+        float areaY = BRICK_TOP_MARGIN;
+        float areaWidth = playfield.getWidth() - 2f * PROCEDURAL_SIDE_MARGIN;
+        float areaHeight = playfield.getHeight() * PROCEDURAL_AREA_HEIGHT_RATIO;
+
+        // Rejilla con las celdas necesarias y la misma proporción que la zona
+        long cells = (long) Math.ceil(brickCount / density);
+        int columns = (int) Math.max(1, Math.ceil(Math.sqrt(cells * areaWidth / areaHeight)));
+        int rows = (int) Math.ceil((double) cells / columns);
+        float cellWidth = areaWidth / columns;
+        float cellHeight = areaHeight / rows;
+        float brickWidth = cellWidth * (1f - PROCEDURAL_BRICK_GAP);
+        float brickHeight = cellHeight * (1f - PROCEDURAL_BRICK_GAP);
+
+        field.clear();
+        field.reserve(brickCount);
+
+        long remainingCells = (long) rows * columns;
+        int remainingBricks = brickCount;
+
+        for (int row = 0; row < rows && remainingBricks > 0; row++) {
+            float y = areaY + row * cellHeight;
+
+            for (int col = 0; col < columns && remainingBricks > 0; col++, remainingCells--) {
+                if (random.nextLong(remainingCells) >= remainingBricks) {
+                    continue;
+                }
+                remainingBricks--;
+
+                float x = areaX + col * cellWidth;
+                double roll = random.nextDouble();
+
+                if (roll < PROCEDURAL_UNBREAKABLE_CHANCE) {
+                    field.add(BrickType.UNBREAKABLE, x, y, brickWidth, brickHeight);
+                } else if (roll < PROCEDURAL_UNBREAKABLE_CHANCE + PROCEDURAL_RESISTANT_CHANCE) {
+                    field.add(BrickType.RESISTANT, x, y, brickWidth, brickHeight);
+                } else if (roll < PROCEDURAL_UNBREAKABLE_CHANCE + PROCEDURAL_RESISTANT_CHANCE
+                        + PROCEDURAL_MOVABLE_CHANCE) {
+                    int direction = random.nextBoolean() ? 1 : -1;
+                    field.addMovable(x, y, brickWidth, brickHeight, cellWidth, direction, MOVABLE_BRICK_DEFAULT_SPEED);
+                } else {
+                    field.add(BrickType.NORMAL, x, y, brickWidth, brickHeight);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isPaddleResize(int number) {
+        return false;
+    }
+
+    @Override
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    public int getBrickCount() {
+        return brickCount;
+    }
+
+    public double getDensity() {
+        return density;
+    }
+}
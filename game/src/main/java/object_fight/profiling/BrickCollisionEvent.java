@@ -0,0 +1,51 @@
+package object_fight.profiling;
+
+/**
+ * @author jairo
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento instantáneo de JDK Flight Recorder que se emite cada vez que la bola
+ * golpea un ladrillo.
+ */
+@Name("object_fight.BrickCollision")
+@Label("Colisión con ladrillo")
+@Category({"ObjectFight", "Juego"})
+@StackTrace(false)
+public class BrickCollisionEvent extends jdk.jfr.Event {
+
+    // Tipo del evento, consultado antes de crear instancias
+    private static final EventType TYPE = EventType.getEventType(BrickCollisionEvent.class);
+
+    @Label("Tipo de ladrillo")
+    public String brickType;
+
+    @Label("Índice del ladrillo")
+    public int brickIndex;
+
+    @Label("X")
+    public float x;
+
+    @Label("Y")
+    public float y;
+
+    @Label("Destruido")
+    public boolean destroyed;
+
+    /**
+     * Indica si alguna grabación de JFR tiene activado este evento. Se
+     * consulta antes de crear el evento para no reservar memoria en cada golpe
+     * cuando no se está grabando.
+     *
+     * @return true si el evento está activado
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,48 @@
+package object_fight.profiling;
+
+/**
+ * @author jairo
+ */
+
+/**
+ * Fases del bucle del juego cuya duración se mide por separado.
+ */
+public enum FramePhase {
+
+    // Vaciado de la cola de entradas al inicio del tick
+    INPUT("input"),
+
+    // Actualización de la paleta, la bola, los ladrillos y el estado de la partida
+    UPDATE("update"),
+
+    // Detección y respuesta de colisiones (incluye apuntar los sonidos que dispara)
+    COLLISIONS("collisions"),
+
+    // Envío al mezclador de los sonidos pedidos durante el tick
+    SOUND("sound"),
+
+    // Captura y publicación de la instantánea del frame
+    SNAPSHOT("snapshot"),
+
+    // Dibujado del frame en el panel de juego
+    PAINT("paint"),
+
+    // Intervalo real entre dos iteraciones del bucle
+    FRAME("frame");
+
+    // Nombre corto usado en el overlay y en la exportación
+    private final String label;
+
+    FramePhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Devuelve el nombre corto de la fase.
+     *
+     * @return Nombre de la fase
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,148 @@
+package object_fight.profiling;
+
+/**
+ * @author jairo
+ */
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Mide la duración de cada fase del bucle del juego con un
+ * {@link LatencyHistogram} por fase. Cada fase la registra un único hilo
+ * (el del juego, o el que pinte el panel), y el overlay puede leer los
+ * percentiles en cualquier momento sin detener a nadie.
+ *
+ * El perfilador desactivado ({@link #DISABLED}) ignora todos los registros,
+ * para que las partidas simuladas no paguen el coste de medir.
+ */
+public class FrameProfiler {
+
+    // Perfilador que no registra nada
+    public static final FrameProfiler DISABLED = new FrameProfiler(false);
+
+    // Percentiles que se muestran y se exportan
+    private static final double[] REPORTED_PERCENTILES = {50.0, 99.0, 99.9};
+
+    // Histograma de cada fase, indexado por ordinal
+    private final LatencyHistogram[] histograms;
+
+    // Si es false, record() no hace nada
+    private final boolean enabled;
+
+    /**
+     * Constructor de un perfilador activo.
+     */
+    public FrameProfiler() {
+        this(true);
+    }
+
+    private FrameProfiler(boolean enabled) {
+        this.enabled = enabled;
+        this.histograms = new LatencyHistogram[FramePhase.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Indica si el perfilador registra las mediciones.
+     *
+     * @return true si está activo
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registra la duración de una fase.
+     *
+     * @param phase Fase medida
+     * @param nanos Duración en nanosegundos
+     */
+    public void record(FramePhase phase, long nanos) {
+        if (enabled) {
+            histograms[phase.ordinal()].record(nanos);
+        }
+    }
+
+    /**
+     * Registra la duración de una fase desde el instante indicado hasta ahora.
+     *
+     * @param phase Fase medida
+     * @param startNanos Instante de inicio (System.nanoTime)
+     * @return Instante actual, para encadenar la medición de la siguiente fase
+     */
+    public long recordSince(FramePhase phase, long startNanos) {
+        long now = System.nanoTime();
+        record(phase, now - startNanos);
+        return now;
+    }
+
+    /**
+     * Devuelve el histograma de una fase.
+     *
+     * @param phase Fase
+     * @return Histograma de la fase
+     */
+    public LatencyHistogram getHistogram(FramePhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Descarta todas las mediciones.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Devuelve la cabecera de la tabla de resultados.
+     *
+     * @return Cabecera con los nombres de las columnas
+     */
+    public static String formatHeader() {
+        return String.format(Locale.ROOT, "%-10s %9s %9s %9s %9s %9s",
+                "phase (us)", "count", "p50", "p99", "p99.9", "max");
+    }
+
+    /**
+     * Devuelve una fila de la tabla de resultados con los percentiles de una
+     * fase en microsegundos.
+     *
+     * @param phase Fase
+     * @return Fila formateada
+     */
+    public String formatRow(FramePhase phase) {
+        LatencyHistogram histogram = getHistogram(phase);
+        StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "%-10s %9d",
+                phase.getLabel(), histogram.getCount()));
+        for (double percentile : REPORTED_PERCENTILES) {
+            row.append(String.format(Locale.ROOT, " %9.1f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        row.append(String.format(Locale.ROOT, " %9.1f", histogram.getMax() / 1000.0));
+        return row.toString();
+    }
+
+    /**
+     * Escribe la tabla de resultados de todas las fases en un fichero de
+     * texto, sobrescribiéndolo si existe.
+     *
+     * @param file Fichero de destino
+     * @throws IOException si no se puede escribir el fichero
+     */
+    public void export(Path file) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.println(formatHeader());
+            for (FramePhase phase : FramePhase.values()) {
+                out.println(formatRow(phase));
+            }
+        }
+    }
+}
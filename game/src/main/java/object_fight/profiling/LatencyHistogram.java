@@ -0,0 +1,132 @@
+package object_fight.profiling;
+
+/**
+ * @author jairo
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latencias en nanosegundos con memoria fija y sin bloqueos.
+ *
+ * Los valores se agrupan en cubetas log-lineales: cada potencia de dos se
+ * divide en {@code 2^(SUB_BUCKET_BITS - 1)} cubetas iguales, de modo que el
+ * error relativo de cualquier percentil es como máximo del 6 % sin importar la
+ * magnitud. Registrar un valor solo incrementa un contador atómico, así que
+ * varios hilos pueden registrar y leer a la vez sin esperar a nadie. Los
+ * percentiles se calculan recorriendo las cubetas en el momento de leerlos.
+ */
+public class LatencyHistogram {
+
+    // Valores por debajo de 2^SUB_BUCKET_BITS se guardan de forma exacta
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+
+    // Valor máximo registrable (~18 minutos); los mayores se acotan
+    private static final long MAX_TRACKABLE_NANOS = (1L << 40) - 1;
+
+    // Número total de cubetas
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_NANOS) + 1;
+
+    // Contadores de cada cubeta
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    // Valor exacto más alto registrado
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Registra una latencia. Los valores negativos se registran como cero.
+     *
+     * @param nanos Latencia en nanosegundos
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+        counts.incrementAndGet(bucketIndex(value));
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Devuelve el número de valores registrados.
+     *
+     * @return Número de valores registrados
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Devuelve el valor por debajo del cual se encuentra el porcentaje de
+     * registros indicado. Se devuelve el límite superior de la cubeta, sin
+     * superar nunca el máximo registrado.
+     *
+     * @param percentile Percentil entre 0 y 100
+     * @return Latencia en nanosegundos, o 0 si no hay registros
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100.0) / 100.0));
+        long accumulated = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulated += counts.get(i);
+            if (accumulated >= target) {
+                return Math.min(highestValueInBucket(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Devuelve la latencia más alta registrada.
+     *
+     * @return Latencia máxima en nanosegundos
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Descarta todos los registros. Los valores registrados mientras se
+     * reinicia pueden conservarse o perderse.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        max.set(0);
+    }
+
+    /**
+     * Calcula la cubeta de un valor.
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // El valor desplazado queda en [SUB_BUCKET_HALF, SUB_BUCKET_COUNT)
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (subBucket - SUB_BUCKET_HALF);
+    }
+
+    /**
+     * Calcula el valor más alto que cae en una cubeta.
+     */
+    private static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
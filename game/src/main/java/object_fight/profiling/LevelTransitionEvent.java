@@ -0,0 +1,43 @@
+package object_fight.profiling;
+
+/**
+ * @author jairo
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JDK Flight Recorder que cubre la preparación del siguiente nivel.
+ * La duración del evento incluye la carga de los ladrillos y la
+ * reconstrucción de la rejilla.
+ */
+@Name("object_fight.LevelTransition")
+@Label("Cambio de nivel")
+@Category({"ObjectFight", "Juego"})
+@Description("Carga del siguiente nivel tras completar el actual")
+@StackTrace(false)
+public class LevelTransitionEvent extends jdk.jfr.Event {
+
+    // Tipo del evento, consultado antes de crear instancias
+    private static final EventType TYPE = EventType.getEventType(LevelTransitionEvent.class);
+
+    @Label("Nivel nuevo")
+    public int level;
+
+    @Label("Ladrillos")
+    public int brickCount;
+
+    /**
+     * Indica si alguna grabación de JFR tiene activado este evento.
+     *
+     * @return true si el evento está activado
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,40 @@
+package object_fight.profiling;
+
+/**
+ * @author jairo
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento instantáneo de JDK Flight Recorder que se emite cuando el jugador
+ * pierde una vida.
+ */
+@Name("object_fight.LifeLost")
+@Label("Vida perdida")
+@Category({"ObjectFight", "Juego"})
+@StackTrace(false)
+public class LifeLostEvent extends jdk.jfr.Event {
+
+    // Tipo del evento, consultado antes de crear instancias
+    private static final EventType TYPE = EventType.getEventType(LifeLostEvent.class);
+
+    @Label("Nivel")
+    public int level;
+
+    @Label("Vidas restantes")
+    public int remainingLives;
+
+    /**
+     * Indica si alguna grabación de JFR tiene activado este evento.
+     *
+     * @return true si el evento está activado
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
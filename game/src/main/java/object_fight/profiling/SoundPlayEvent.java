@@ -0,0 +1,47 @@
+package object_fight.profiling;
+
+/**
+ * @author jairo
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JDK Flight Recorder que cubre la petición de un efecto de sonido,
+ * ya sea desde el tick de una partida o con {@code SoundManager.playSound}.
+ * La duración es lo que tarda en apuntar la petición en el hilo que la hace;
+ * la voz se asigna después en el hilo de audio.
+ */
+@Name("object_fight.SoundPlay")
+@Label("Reproducción de sonido")
+@Category({"ObjectFight", "Audio"})
+@StackTrace(false)
+public class SoundPlayEvent extends jdk.jfr.Event {
+
+    // Tipo del evento, consultado antes de crear instancias
+    private static final EventType TYPE = EventType.getEventType(SoundPlayEvent.class);
+
+    @Label("Sonido")
+    public String name;
+
+    @Label("Encontrado")
+    public boolean found;
+
+    @Label("Agrupado con otra petición del mismo tick")
+    public boolean coalesced;
+
+    /**
+     * Indica si alguna grabación de JFR tiene activado este evento. Se
+     * consulta antes de crear el evento para no reservar memoria en cada sonido
+     * cuando no se está grabando.
+     *
+     * @return true si el evento está activado
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,52 @@
+package object_fight.profiling;
+
+/**
+ * @author jairo
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JDK Flight Recorder que cubre un tick completo de la simulación.
+ * La duración del evento es la del tick.
+ */
+@Name("object_fight.Tick")
+@Label("Tick del juego")
+@Category({"ObjectFight", "Juego"})
+@Description("Un paso fijo de la simulación: entrada, movimiento, colisiones y estado de la partida")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+
+    // Tipo del evento, consultado antes de crear instancias
+    private static final EventType TYPE = EventType.getEventType(TickEvent.class);
+
+    @Label("Nivel")
+    public int level;
+
+    @Label("Ladrillos vivos")
+    @Description("Ladrillos rompibles que quedan en el nivel al terminar el tick")
+    public int bricksAlive;
+
+    @Label("Colisiones comprobadas")
+    @Description("Pruebas de barrido bola-ladrillo realizadas en la fase estrecha")
+    public int collisionsTested;
+
+    @Label("Impactos")
+    public int impacts;
+
+    /**
+     * Indica si alguna grabación de JFR tiene activado este evento. Se
+     * consulta antes de crear el evento para no reservar memoria en cada tick
+     * cuando no se está grabando.
+     *
+     * @return true si el evento está activado
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,73 @@
+package object_fight.simulation;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.game.Game;
+import object_fight.game.InputAction;
+import object_fight.gameobjects.Ball;
+import object_fight.gameobjects.Paddle;
+
+import java.util.List;
+
+import static object_fight.utils.Constants.SIMULATION_PADDLE_DEAD_ZONE;
+
+/**
+ * Piloto automático para partidas sin jugador. Lo usan el simulador por lotes
+ * y los benchmarks para que las partidas avancen de forma realista.
+ */
+public final class Autopilot {
+
+    private Autopilot() {
+    }
+
+    /**
+     * Lanza la bola si está pegada y mueve la paleta para mantener su centro
+     * bajo el centro de la bola. Con varias bolas en juego sigue a la que está
+     * más abajo de las que caen. Las acciones pasan por la cola de entrada de
+     * la partida, igual que las del jugador.
+     *
+     * @param game Partida a controlar
+     */
+    public static void steer(Game game) {
+        Ball ball = game.getBall();
+        Paddle paddle = game.getPaddle();
+
+        if (ball.isStuckToPaddle()) {
+            game.submitInput(InputAction.LAUNCH);
+        } else if (game.getBallCount() > 1) {
+            ball = lowestFallingBall(game.getBalls(), ball);
+        }
+
+        float paddleCenterX = paddle.getX() + paddle.getWidth() / 2f;
+        float offset = ball.getCenterX() - paddleCenterX;
+
+        if (offset < -SIMULATION_PADDLE_DEAD_ZONE) {
+            game.submitInput(InputAction.MOVE_LEFT);
+        } else if (offset > SIMULATION_PADDLE_DEAD_ZONE) {
+            game.submitInput(InputAction.MOVE_RIGHT);
+        } else {
+            game.submitInput(InputAction.STOP);
+        }
+    }
+
+    /**
+     * Busca la bola que cae más cerca de la paleta.
+     *
+     * @param balls Bolas de la partida
+     * @param fallback Bola a seguir si ninguna está cayendo
+     * @return Bola a seguir
+     */
+    private static Ball lowestFallingBall(List<Ball> balls, Ball fallback) {
+        Ball lowest = null;
+        for (int i = 0; i < balls.size(); i++) {
+            Ball candidate = balls.get(i);
+            if (candidate.isAlive() && candidate.getVelocityY() > 0
+                    && (lowest == null || candidate.getCenterY() > lowest.getCenterY())) {
+                lowest = candidate;
+            }
+        }
+        return lowest != null ? lowest : fallback;
+    }
+}
@@ -0,0 +1,218 @@
+package object_fight.simulation;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.game.Game;
+import object_fight.levels.LevelPack;
+import object_fight.levels.LevelSource;
+import object_fight.levels.ProceduralLevelGenerator;
+import object_fight.utils.PlayfieldConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Simulador por lotes que ejecuta muchas partidas independientes en paralelo
+ * sin interfaz gráfica. Cada partida tiene su propia instancia de
+ * {@link Game} controlada por un {@link Autopilot} que sigue la bola con la
+ * paleta, y se avanza tick a tick hasta que termina o alcanza el límite de
+ * ticks. La partida i-ésima usa la semilla {@code baseSeed + i}, de modo que
+ * cualquier partida del lote puede reproducirse por separado. Al final se
+ * informa del rendimiento agregado (ticks/s y partidas/s) y del resultado de
+ * cada partida.
+ */
+public class BatchSimulator {
+
+    // Configuración del lote
+    private final int games;
+    private final long maxTicks;
+    private final int parallelism;
+    private final long baseSeed;
+    private final PlayfieldConfig playfield;
+    private final LevelSource levels;
+    private final int extraBalls;
+
+    /**
+     * Constructor del simulador.
+     *
+     * @param games Número de partidas a simular
+     * @param maxTicks Número máximo de ticks por partida
+     * @param parallelism Número de hilos del pool
+     * @param baseSeed Semilla de la primera partida del lote
+     * @param playfield Área de juego de todas las partidas
+     */
+    public BatchSimulator(int games, long maxTicks, int parallelism, long baseSeed, PlayfieldConfig playfield) {
+        this(games, maxTicks, parallelism, baseSeed, playfield, LevelPack.getDefault());
+    }
+
+    /**
+     * Constructor del simulador con un origen de niveles concreto.
+     *
+     * @param games Número de partidas a simular
+     * @param maxTicks Número máximo de ticks por partida
+     * @param parallelism Número de hilos del pool
+     * @param baseSeed Semilla de la primera partida del lote
+     * @param playfield Área de juego de todas las partidas
+     * @param levels Niveles que juegan todas las partidas
+     */
+    public BatchSimulator(int games, long maxTicks, int parallelism, long baseSeed, PlayfieldConfig playfield,
+                          LevelSource levels) {
+        this(games, maxTicks, parallelism, baseSeed, playfield, levels, 0);
+    }
+
+    /**
+     * Constructor del simulador en modo de estrés multibola: cada vez que solo
+     * queda una bola en juego se añaden las bolas extra indicadas.
+     *
+     * @param games Número de partidas a simular
+     * @param maxTicks Número máximo de ticks por partida
+     * @param parallelism Número de hilos del pool
+     * @param baseSeed Semilla de la primera partida del lote
+     * @param playfield Área de juego de todas las partidas
+     * @param levels Niveles que juegan todas las partidas
+     * @param extraBalls Bolas que se añaden a la bola principal
+     */
+    public BatchSimulator(int games, long maxTicks, int parallelism, long baseSeed, PlayfieldConfig playfield,
+                          LevelSource levels, int extraBalls) {
+        if (games <= 0 || maxTicks <= 0 || parallelism <= 0 || extraBalls < 0) {
+            throw new IllegalArgumentException("Los parámetros del simulador deben ser positivos");
+        }
+        this.games = games;
+        this.maxTicks = maxTicks;
+        this.parallelism = parallelism;
+        this.baseSeed = baseSeed;
+        this.playfield = playfield;
+        this.levels = levels;
+        this.extraBalls = extraBalls;
+    }
+
+    /**
+     * Simula todas las partidas del lote en un ForkJoinPool propio y devuelve
+     * sus resultados en orden.
+     *
+     * @return Lista con el resultado de cada partida
+     * @throws InterruptedException si se interrumpe la espera del lote
+     * @throws ExecutionException si alguna partida lanza una excepción
+     */
+    public List<SimulationResult> run() throws InterruptedException, ExecutionException {
+        List<Callable<SimulationResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            int gameIndex = i;
+            tasks.add(() -> simulateGame(gameIndex));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<SimulationResult> results = new ArrayList<>(games);
+            for (Future<SimulationResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Simula una partida completa hasta que se gana, se pierde o se alcanza el
+     * límite de ticks.
+     *
+     * @param gameIndex Índice de la partida en el lote
+     * @return Resultado de la partida
+     */
+    private SimulationResult simulateGame(int gameIndex) {
+        long start = System.nanoTime();
+
+        long seed = baseSeed + gameIndex;
+        Game game = new Game(playfield, seed, levels);
+        game.start();
+
+        long ticks = 0;
+        while (ticks < maxTicks && !game.isGameOver() && !game.isGameWon()) {
+            Autopilot.steer(game);
+            game.update();
+            ticks++;
+
+            if (extraBalls > 0 && game.getBallCount() == 1) {
+                game.spawnBalls(extraBalls);
+            }
+        }
+
+        return new SimulationResult(gameIndex, seed, game.getScore(), game.getLives(),
+                game.getCurrentLevel(), game.isGameWon(), game.isGameOver(),
+                ticks, System.nanoTime() - start);
+    }
+
+    /**
+     * Muestra por consola el rendimiento agregado del lote y el resultado de
+     * cada partida.
+     *
+     * @param results Resultados de las partidas
+     * @param elapsedNanos Tiempo total del lote
+     */
+    private void printReport(List<SimulationResult> results, long elapsedNanos) {
+        long totalTicks = 0;
+        int won = 0;
+        int lost = 0;
+        for (SimulationResult result : results) {
+            totalTicks += result.getTicks();
+            if (result.isGameWon()) {
+                won++;
+            } else if (result.isGameOver()) {
+                lost++;
+            }
+        }
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("Partidas: %d | Hilos: %d | Semilla base: %d | Tiempo: %.2f s%n",
+                results.size(), parallelism, baseSeed, seconds);
+        System.out.printf("Ticks totales: %d | Ticks/s: %.0f | Partidas/s: %.2f%n",
+                totalTicks, totalTicks / seconds, results.size() / seconds);
+        System.out.printf("Victorias: %d | Derrotas: %d | Sin terminar: %d%n",
+                won, lost, results.size() - won - lost);
+
+        for (SimulationResult result : results) {
+            System.out.println(result);
+        }
+    }
+
+    /**
+     * Punto de entrada del simulador.
+     * Argumentos opcionales: [partidas] [ticksMáximos] [hilos] [semilla]
+     * [ladrillos] [densidad] [bolasExtra]. Si se indica un número de ladrillos
+     * mayor que 0, las partidas juegan un nivel procedural de ese tamaño en
+     * lugar del paquete de niveles por defecto. Con bolas extra se simula el
+     * modo de estrés multibola.
+     *
+     * @param args Argumentos de la línea de comandos
+     */
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : SIMULATION_DEFAULT_GAMES;
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : SIMULATION_MAX_TICKS;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        LevelSource levels = LevelPack.getDefault();
+        int bricks = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+        if (bricks > 0) {
+            double density = args.length > 5 ? Double.parseDouble(args[5]) : PROCEDURAL_DEFAULT_DENSITY;
+            levels = new ProceduralLevelGenerator(seed, 1, bricks, density);
+        }
+        int extraBalls = args.length > 6 ? Integer.parseInt(args[6]) : 0;
+
+        BatchSimulator simulator = new BatchSimulator(games, maxTicks, threads, seed,
+                new PlayfieldConfig(HEADLESS_SCREEN_WIDTH, HEADLESS_SCREEN_HEIGHT), levels, extraBalls);
+
+        long start = System.nanoTime();
+        List<SimulationResult> results = simulator.run();
+        simulator.printReport(results, System.nanoTime() - start);
+    }
+}
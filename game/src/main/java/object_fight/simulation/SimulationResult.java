@@ -0,0 +1,111 @@
+package object_fight.simulation;
+
+/**
+ * @author jairo
+ */
+
+/**
+ * Resultado de una partida simulada. Guarda el desenlace de la partida y el
+ * número de ticks que ha necesitado para terminar.
+ */
+public class SimulationResult {
+
+    // Identificador de la partida dentro del lote y semilla que la reproduce
+    private final int gameIndex;
+    private final long seed;
+
+    // Desenlace de la partida
+    private final int score;
+    private final int lives;
+    private final int levelReached;
+    private final boolean gameWon;
+    private final boolean gameOver;
+
+    // Coste de la simulación
+    private final long ticks;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor del resultado de una partida.
+     *
+     * @param gameIndex Índice de la partida en el lote
+     * @param seed Semilla de la partida
+     * @param score Puntuación final
+     * @param lives Vidas restantes
+     * @param levelReached Nivel alcanzado
+     * @param gameWon true si se ganó la partida
+     * @param gameOver true si se perdió la partida
+     * @param ticks Número de ticks simulados
+     * @param elapsedNanos Tiempo empleado en la simulación
+     */
+    public SimulationResult(int gameIndex, long seed, int score, int lives, int levelReached,
+                            boolean gameWon, boolean gameOver, long ticks, long elapsedNanos) {
+        this.gameIndex = gameIndex;
+        this.seed = seed;
+        this.score = score;
+        this.lives = lives;
+        this.levelReached = levelReached;
+        this.gameWon = gameWon;
+        this.gameOver = gameOver;
+        this.ticks = ticks;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Devuelve el desenlace de la partida como texto.
+     *
+     * @return "VICTORIA", "DERROTA" o "SIN TERMINAR" si se alcanzó el límite de ticks
+     */
+    public String getOutcome() {
+        if (gameWon) {
+            return "VICTORIA";
+        }
+        return gameOver ? "DERROTA" : "SIN TERMINAR";
+    }
+
+    // Getters
+    public int getGameIndex() {
+        return gameIndex;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getLevelReached() {
+        return levelReached;
+    }
+
+    public boolean isGameWon() {
+        return gameWon;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Devuelve una representación en String del resultado.
+     */
+    @Override
+    public String toString() {
+        return String.format("#%d seed=%d score=%d lives=%d level=%d ticks=%d %s",
+                gameIndex, seed, score, lives, levelReached, ticks, getOutcome());
+    }
+}
@@ -0,0 +1,287 @@
+package object_fight.ui;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.game.FrameSnapshot;
+
+import java.awt.*;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Calcula las regiones de pantalla que cambian entre el último frame pintado
+ * y una instantánea nueva, para repintar solo esas regiones. Guarda una copia
+ * de lo que se pintó la última vez (bolas, paleta, ladrillos móviles,
+ * ladrillos estáticos e información de la partida) y marca como sucias la
+ * posición anterior y la nueva de cada objeto que se mueve, los ladrillos
+ * estáticos que han recibido un golpe o han desaparecido y la franja de la
+ * información de la partida cuando cambia.
+ *
+ * Las regiones que se solapan se unen. Si hay demasiadas, o cambia el tamaño
+ * del panel, se pide repintar el frame completo, que en esos casos es más
+ * barato que muchos repintados pequeños.
+ *
+ * No es seguro entre hilos: lo usa solo el hilo de eventos.
+ */
+public class DirtyRegionTracker {
+
+    // Regiones sucias del frame actual
+    private final Rectangle[] regions = new Rectangle[DIRTY_RECTS_MAX];
+    private int regionCount;
+    private boolean fullRepaint = true;
+
+    // Tamaño del panel en el último frame
+    private int width;
+    private int height;
+
+    // Bolas, paleta y ladrillos móviles pintados en el último frame (x, y, ancho, alto)
+    private int[] movingBounds = new int[0];
+    private int movingCount;
+
+    // Ladrillos estáticos pintados en el último frame y su versión
+    private int[] staticBounds = new int[0];
+    private int[] staticHits = new int[0];
+    private int staticCount;
+    private long staticVersion = -1;
+
+    // Información de la partida pintada en el último frame
+    private int score;
+    private int lives;
+    private int level;
+
+    /**
+     * Constructor del seguimiento, que pide un repintado completo en el
+     * primer frame.
+     */
+    public DirtyRegionTracker() {
+        for (int i = 0; i < regions.length; i++) {
+            regions[i] = new Rectangle();
+        }
+    }
+
+    /**
+     * Calcula las regiones que cambian al pintar la instantánea y la guarda
+     * como el último frame pintado.
+     *
+     * @param snapshot Instantánea que se va a pintar
+     * @param width Ancho del panel
+     * @param height Alto del panel
+     */
+    public void update(FrameSnapshot snapshot, int width, int height) {
+        regionCount = 0;
+        if (width != this.width || height != this.height) {
+            this.width = width;
+            this.height = height;
+            fullRepaint = true;
+        }
+
+        updateMovingObjects(snapshot);
+        updateStaticBricks(snapshot);
+
+        // Franja superior con la puntuación, el nivel y las vidas
+        if (snapshot.getScore() != score || snapshot.getLives() != lives || snapshot.getCurrentLevel() != level) {
+            score = snapshot.getScore();
+            lives = snapshot.getLives();
+            level = snapshot.getCurrentLevel();
+            add(0, 0, width, DIRTY_HUD_STRIP_HEIGHT);
+        }
+    }
+
+    /**
+     * Marca como sucias las posiciones anteriores y nuevas de las bolas, la
+     * paleta y los ladrillos móviles.
+     */
+    private void updateMovingObjects(FrameSnapshot snapshot) {
+        for (int i = 0; i < movingCount; i++) {
+            addMargin(movingBounds[4 * i], movingBounds[4 * i + 1], movingBounds[4 * i + 2], movingBounds[4 * i + 3]);
+        }
+
+        int count = snapshot.getBallCount() + 1;
+        for (int i = 0; i < snapshot.getBrickCount(); i++) {
+            if (snapshot.isBrickMovable(i)) {
+                count++;
+            }
+        }
+        if (movingBounds.length < 4 * count) {
+            movingBounds = new int[4 * count];
+        }
+
+        movingCount = 0;
+        storeMoving(snapshot.getPaddleRenderX(), snapshot.getPaddleRenderY(),
+                snapshot.getPaddleWidth(), snapshot.getPaddleHeight());
+        for (int i = 0; i < snapshot.getBallCount(); i++) {
+            storeMoving(snapshot.getBallRenderX(i), snapshot.getBallRenderY(i),
+                    snapshot.getBallWidth(i), snapshot.getBallHeight(i));
+        }
+        for (int i = 0; i < snapshot.getBrickCount(); i++) {
+            if (snapshot.isBrickMovable(i)) {
+                storeMoving(snapshot.getBrickRenderX(i), snapshot.getBrickRenderY(i),
+                        snapshot.getBrickWidth(i), snapshot.getBrickHeight(i));
+            }
+        }
+    }
+
+    /**
+     * Guarda un objeto móvil del frame nuevo y marca su posición como sucia.
+     */
+    private void storeMoving(int x, int y, int w, int h) {
+        int base = 4 * movingCount++;
+        movingBounds[base] = x;
+        movingBounds[base + 1] = y;
+        movingBounds[base + 2] = w;
+        movingBounds[base + 3] = h;
+        addMargin(x, y, w, h);
+    }
+
+    /**
+     * Marca como sucios los ladrillos estáticos que han cambiado. Los
+     * ladrillos se capturan siempre en el mismo orden y los estáticos no se
+     * mueven, así que se recorren a la vez las dos listas: un ladrillo en la
+     * misma posición solo se repinta si cambian sus golpes, y cualquier
+     * ladrillo sin pareja (destruido o nuevo) se repinta entero.
+     */
+    private void updateStaticBricks(FrameSnapshot snapshot) {
+        if (snapshot.getStaticBricksVersion() == staticVersion) {
+            return;
+        }
+        staticVersion = snapshot.getStaticBricksVersion();
+
+        int[] previousBounds = staticBounds;
+        int[] previousHits = staticHits;
+        int previousCount = staticCount;
+        int capacity = snapshot.getBrickCount();
+        if (staticBounds.length < 4 * capacity) {
+            staticBounds = new int[4 * capacity];
+            staticHits = new int[capacity];
+        }
+
+        int previous = 0;
+        staticCount = 0;
+        for (int i = 0; i < snapshot.getBrickCount(); i++) {
+            if (snapshot.isBrickMovable(i)) {
+                continue;
+            }
+            int x = snapshot.getBrickRenderX(i);
+            int y = snapshot.getBrickRenderY(i);
+            int w = snapshot.getBrickWidth(i);
+            int h = snapshot.getBrickHeight(i);
+            int hits = snapshot.getBrickHits(i);
+
+            // Los ladrillos anteriores que no coinciden con este ya no existen
+            while (previous < previousCount && !sameBounds(previousBounds, previous, x, y, w, h)) {
+                addPrevious(previousBounds, previous++);
+            }
+            if (previous < previousCount) {
+                if (previousHits[previous] != hits) {
+                    addMargin(x, y, w, h);
+                }
+                previous++;
+            } else {
+                addMargin(x, y, w, h);
+            }
+
+            int base = 4 * staticCount;
+            staticBounds[base] = x;
+            staticBounds[base + 1] = y;
+            staticBounds[base + 2] = w;
+            staticBounds[base + 3] = h;
+            staticHits[staticCount++] = hits;
+        }
+        while (previous < previousCount) {
+            addPrevious(previousBounds, previous++);
+        }
+    }
+
+    private static boolean sameBounds(int[] bounds, int index, int x, int y, int w, int h) {
+        int base = 4 * index;
+        return bounds[base] == x && bounds[base + 1] == y && bounds[base + 2] == w && bounds[base + 3] == h;
+    }
+
+    private void addPrevious(int[] bounds, int index) {
+        int base = 4 * index;
+        addMargin(bounds[base], bounds[base + 1], bounds[base + 2], bounds[base + 3]);
+    }
+
+    /**
+     * Marca como sucio un objeto, incluyendo el margen de sus sprites.
+     */
+    private void addMargin(int x, int y, int w, int h) {
+        add(x - SPRITE_MARGIN, y - SPRITE_MARGIN, w + 2 * SPRITE_MARGIN, h + 2 * SPRITE_MARGIN);
+    }
+
+    /**
+     * Marca como sucia una región del panel. Si se solapa con otra región
+     * sucia se une a ella; si no caben más regiones se pide un repintado
+     * completo.
+     *
+     * @param x Coordenada X de la región
+     * @param y Coordenada Y de la región
+     * @param w Ancho de la región
+     * @param h Alto de la región
+     */
+    public void add(int x, int y, int w, int h) {
+        if (fullRepaint || w <= 0 || h <= 0) {
+            return;
+        }
+
+        // Se recorta al panel
+        int x2 = Math.min(x + w, width);
+        int y2 = Math.min(y + h, height);
+        x = Math.max(x, 0);
+        y = Math.max(y, 0);
+        if (x >= x2 || y >= y2) {
+            return;
+        }
+
+        for (int i = 0; i < regionCount; i++) {
+            Rectangle region = regions[i];
+            if (x < region.x + region.width && region.x < x2 && y < region.y + region.height && region.y < y2) {
+                int minX = Math.min(x, region.x);
+                int minY = Math.min(y, region.y);
+                region.setBounds(minX, minY,
+                        Math.max(x2, region.x + region.width) - minX, Math.max(y2, region.y + region.height) - minY);
+                return;
+            }
+        }
+
+        if (regionCount == regions.length) {
+            fullRepaint = true;
+            return;
+        }
+        regions[regionCount++].setBounds(x, y, x2 - x, y2 - y);
+    }
+
+    /**
+     * Indica si hay que repintar el frame completo en lugar de las regiones.
+     *
+     * @return true si hay que repintar todo
+     */
+    public boolean isFullRepaint() {
+        return fullRepaint;
+    }
+
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    public Rectangle getRegion(int index) {
+        return regions[index];
+    }
+
+    /**
+     * Indica que las regiones del frame ya se han repintado.
+     */
+    public void clear() {
+        regionCount = 0;
+        fullRepaint = false;
+    }
+
+    /**
+     * Pide que el próximo frame se repinte completo.
+     */
+    public void invalidateAll() {
+        fullRepaint = true;
+    }
+}
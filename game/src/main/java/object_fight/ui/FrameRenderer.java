@@ -0,0 +1,79 @@
+package object_fight.ui;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.game.FrameSnapshot;
+
+import java.awt.*;
+
+/**
+ * Dibuja los objetos de una partida (paleta, bolas y ladrillos) a partir de una
+ * instantánea. No depende de ningún componente de Swing, por lo que sirve
+ * tanto para el panel del juego como para dibujar fuera de pantalla sobre una
+ * imagen. Los objetos se copian desde una {@link SpriteCache}, de modo que
+ * cada variante solo se dibuja de verdad una vez.
+ */
+public class FrameRenderer {
+
+    // Sprites prerrenderizados de los objetos
+    private final SpriteCache sprites = new SpriteCache();
+
+    /**
+     * Renderiza todos los elementos activos del juego.
+     *
+     * @param g Contexto gráfico para dibujar
+     * @param snapshot Instantánea del estado de la partida
+     */
+    public void render(Graphics g, FrameSnapshot snapshot) {
+        renderStaticBricks(g, snapshot);
+        renderDynamic(g, snapshot);
+    }
+
+    /**
+     * Renderiza solo los ladrillos que no se mueven. Su aspecto solo cambia
+     * cuando cambia {@link FrameSnapshot#getStaticBricksVersion()}.
+     *
+     * @param g Contexto gráfico para dibujar
+     * @param snapshot Instantánea del estado de la partida
+     */
+    public void renderStaticBricks(Graphics g, FrameSnapshot snapshot) {
+        for (int i = 0; i < snapshot.getBrickCount(); i++) {
+            if (!snapshot.isBrickMovable(i)) {
+                renderBrick(g, snapshot, i);
+            }
+        }
+    }
+
+    /**
+     * Renderiza los objetos que se mueven: paleta, bolas y ladrillos móviles.
+     *
+     * @param g Contexto gráfico para dibujar
+     * @param snapshot Instantánea del estado de la partida
+     */
+    public void renderDynamic(Graphics g, FrameSnapshot snapshot) {
+        for (int i = 0; i < snapshot.getBrickCount(); i++) {
+            if (snapshot.isBrickMovable(i)) {
+                renderBrick(g, snapshot, i);
+            }
+        }
+
+        sprites.drawPaddle(g, snapshot.getPaddleRenderX(), snapshot.getPaddleRenderY(),
+                snapshot.getPaddleWidth(), snapshot.getPaddleHeight());
+
+        for (int i = 0; i < snapshot.getBallCount(); i++) {
+            sprites.drawBall(g, snapshot.getBallRenderX(i), snapshot.getBallRenderY(i),
+                    snapshot.getBallWidth(i), snapshot.getBallHeight(i));
+        }
+    }
+
+    /**
+     * Renderiza un ladrillo de la instantánea.
+     */
+    private void renderBrick(Graphics g, FrameSnapshot snapshot, int i) {
+        sprites.drawBrick(g, snapshot.getBrickType(i),
+                snapshot.getBrickRenderX(i), snapshot.getBrickRenderY(i),
+                snapshot.getBrickWidth(i), snapshot.getBrickHeight(i), snapshot.getBrickHits(i));
+    }
+}
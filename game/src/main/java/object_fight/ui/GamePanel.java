@@ -0,0 +1,390 @@
+package object_fight.ui;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.game.FrameSnapshot;
+import object_fight.game.Game;
+import object_fight.game.SnapshotBuffer;
+import object_fight.profiling.FramePhase;
+import object_fight.profiling.FrameProfiler;
+import object_fight.utils.AssetManager;
+import object_fight.utils.FontRegistry;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.KeyListener;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import object_fight.utils.Constants.*;
+
+import static javax.swing.text.StyleConstants.setBackground;
+import static object_fight.utils.Constants.*;
+
+/**
+ * Panel principal del juego que maneja la representación visual. No accede a
+ * los objetos vivos del juego: dibuja siempre la última instantánea completa
+ * publicada por el hilo del juego.
+ *
+ * En modo {@link RenderMode#PASSIVE} el frame se dibuja en paintComponent
+ * cuando Swing lo decide. En modo {@link RenderMode#ACTIVE} el panel contiene
+ * un Canvas con un BufferStrategy y es el propio hilo del juego quien dibuja y
+ * presenta cada frame, sin pasar por el hilo de eventos. En modo
+ * {@link RenderMode#PARTIAL} el hilo del juego solo avisa de que hay un frame
+ * nuevo y el hilo de eventos repinta las regiones que han cambiado.
+ */
+public class GamePanel extends JPanel {
+
+    // Referencia al juego
+    private Game game;
+
+    // Origen de las instantáneas a renderizar
+    private SnapshotBuffer snapshotBuffer;
+
+    // Estado del juego (en el modo activo lo lee el hilo del juego)
+    private volatile boolean isPaused;
+
+    // Modo de renderizado y lienzo usado en el modo activo
+    private RenderMode renderMode = RenderMode.PASSIVE;
+    private final Canvas canvas = new Canvas();
+
+    // Dibuja los objetos del juego a partir de una instantánea, sobre las capas guardadas
+    private final FrameRenderer frameRenderer = new FrameRenderer();
+    private final LayeredCompositor compositor = new LayeredCompositor(frameRenderer);
+
+    // Perfilador de fases y overlay que muestra sus mediciones (el perfilador
+    // se asigna en el hilo de eventos y en el modo activo lo lee el hilo del juego)
+    private volatile FrameProfiler profiler = FrameProfiler.DISABLED;
+    private final ProfilerOverlay profilerOverlay = new ProfilerOverlay();
+    private volatile boolean profilerOverlayVisible;
+
+    // Modo parcial: instantánea en pantalla, regiones que cambian y aviso pendiente
+    private FrameSnapshot partialSnapshot;
+    private final DirtyRegionTracker dirtyRegions = new DirtyRegionTracker();
+    private final AtomicBoolean partialRepaintPending = new AtomicBoolean();
+    private final Runnable partialRepaintTask = this::repaintDirtyRegions;
+
+    /**
+     * Constructor del panel de juego. Inicializa el panel y configura sus
+     * componentes visuales.
+     *
+     * @param game Referencia al juego principal
+     */
+    public GamePanel(Game game) {
+        this.game = game;
+        this.isPaused = false;
+        setupPanel();
+        setupCursor();
+        loadBackgroundImage();
+    }
+
+    /**
+     * Configura las propiedades básicas del panel.
+     */
+    private void setupPanel() {
+        setBackground(Color.BLACK);
+        setPreferredSize(Toolkit.getDefaultToolkit().getScreenSize());
+        setFocusable(true);
+        setDoubleBuffered(true);
+        setLayout(new BorderLayout());
+
+        // El lienzo del modo activo no debe repintarse a través de Swing
+        canvas.setIgnoreRepaint(true);
+        canvas.setBackground(Color.BLACK);
+        canvas.setFocusable(true);
+    }
+
+    /**
+     * Configura el cursor invisible para el juego.
+     */
+    private void setupCursor() {
+        Toolkit toolkit = Toolkit.getDefaultToolkit();
+        Image cursorImage = toolkit.createImage("");
+        Cursor invisibleCursor = toolkit.createCustomCursor(
+                cursorImage,
+                new Point(0, 0),
+                "InvisibleCursor"
+        );
+        setCursor(invisibleCursor);
+        canvas.setCursor(invisibleCursor);
+    }
+
+    /**
+     * Carga la imagen de fondo del juego.
+     */
+    private void loadBackgroundImage() {
+        compositor.setBackgroundImage(AssetManager.getInstance().getImage(ASSET_BACKGROUND_IMAGE));
+    }
+
+    /**
+     * Añade un KeyListener para manejar los inputs del teclado.
+     *
+     * @param listener El KeyListener a añadir
+     */
+    public void addKeyPressedListener(KeyListener listener) {
+        addKeyListener(listener);
+        canvas.addKeyListener(listener);
+    }
+
+    /**
+     * Establece el modo de renderizado. En modo activo se añade al panel el
+     * lienzo sobre el que se presentan los frames.
+     *
+     * @param renderMode Modo de renderizado
+     */
+    public void setRenderMode(RenderMode renderMode) {
+        this.renderMode = renderMode;
+        if (renderMode == RenderMode.ACTIVE) {
+            add(canvas, BorderLayout.CENTER);
+        } else {
+            remove(canvas);
+        }
+        revalidate();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+
+        // En modo activo el lienzo cubre el panel y lo pinta el hilo del juego
+        if (renderMode == RenderMode.ACTIVE) {
+            return;
+        }
+
+        // En modo parcial se pinta siempre la instantánea que hay en pantalla,
+        // para que las regiones repintadas por separado no mezclen frames
+        drawFrame(g, renderMode == RenderMode.PARTIAL ? partialSnapshot : acquireSnapshot());
+    }
+
+    /**
+     * Avisa de que hay un frame nuevo que pintar en modo parcial. Se llama
+     * desde el hilo del juego; si el hilo de eventos todavía no ha atendido
+     * el aviso anterior, no se encola otro.
+     */
+    public void requestPartialRepaint() {
+        if (partialRepaintPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(partialRepaintTask);
+        }
+    }
+
+    /**
+     * Repinta en el hilo de eventos las regiones que han cambiado entre la
+     * instantánea en pantalla y la última publicada.
+     */
+    private void repaintDirtyRegions() {
+        partialRepaintPending.set(false);
+        FrameSnapshot snapshot = acquireSnapshot();
+        if (snapshot == null) {
+            return;
+        }
+
+        partialSnapshot = snapshot;
+        dirtyRegions.update(snapshot, getWidth(), getHeight());
+        if (profilerOverlayVisible) {
+            Rectangle overlay = profilerOverlay.getBounds();
+            dirtyRegions.add(overlay.x, overlay.y, overlay.width, overlay.height);
+        }
+
+        if (dirtyRegions.isFullRepaint()) {
+            paintImmediately(0, 0, getWidth(), getHeight());
+        } else {
+            for (int i = 0; i < dirtyRegions.getRegionCount(); i++) {
+                paintImmediately(dirtyRegions.getRegion(i));
+            }
+        }
+        dirtyRegions.clear();
+    }
+
+    /**
+     * Dibuja y presenta un frame completo en el lienzo del modo activo. Se
+     * llama desde el hilo del juego. Si el lienzo todavía no es visible o la
+     * ventana se está recreando, el frame se descarta.
+     */
+    public void renderActiveFrame() {
+        if (!canvas.isShowing()) {
+            return;
+        }
+
+        try {
+            BufferStrategy strategy = canvas.getBufferStrategy();
+            if (strategy == null) {
+                canvas.createBufferStrategy(ACTIVE_RENDER_BUFFERS);
+                strategy = canvas.getBufferStrategy();
+            }
+
+            FrameSnapshot snapshot = acquireSnapshot();
+
+            // Se repite el dibujado si el contenido de los buffers se pierde
+            do {
+                do {
+                    Graphics g = strategy.getDrawGraphics();
+                    try {
+                        // La capa del fondo es opaca y cubre todo el lienzo
+                        drawFrame(g, snapshot);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (strategy.contentsRestored());
+
+                strategy.show();
+            } while (strategy.contentsLost());
+
+            Toolkit.getDefaultToolkit().sync();
+        } catch (IllegalStateException e) {
+            // El lienzo ha perdido su peer mientras se recreaba la ventana
+        }
+    }
+
+    /**
+     * Obtiene la última instantánea publicada por el hilo del juego.
+     *
+     * @return La instantánea, o null si todavía no hay ninguna completa
+     */
+    private FrameSnapshot acquireSnapshot() {
+        if (snapshotBuffer == null) {
+            return null;
+        }
+        FrameSnapshot snapshot = snapshotBuffer.acquireLatest();
+        return snapshot.isValid() ? snapshot : null;
+    }
+
+    /**
+     * Dibuja el fondo, la instantánea del juego y la información de la
+     * partida. El fondo y los ladrillos estáticos se copian de sus capas
+     * guardadas. La duración se registra en la fase de pintado del perfilador.
+     *
+     * @param snapshot Instantánea a dibujar, o null para dibujar solo el fondo
+     */
+    private void drawFrame(Graphics g, FrameSnapshot snapshot) {
+        long start = System.nanoTime();
+
+        compositor.compose(g, snapshot, getWidth(), getHeight());
+        if (snapshot == null) {
+            return;
+        }
+
+        drawGameInfo(g, snapshot);
+        if (isPaused) {
+            drawPauseScreen(g, snapshot);
+        }
+        profiler.recordSince(FramePhase.PAINT, start);
+
+        // El overlay se dibuja fuera de la medición para no falsearla
+        if (profilerOverlayVisible) {
+            profilerOverlay.render(g, profiler);
+        }
+    }
+
+    /**
+     * Dibuja la información del juego (puntuación, vidas, nivel).
+     */
+    private void drawGameInfo(Graphics g, FrameSnapshot snapshot) {
+        FontRegistry fonts = FontRegistry.getInstance();
+        if (!fonts.isArcadeFontAvailable()) {
+            handleFontLoadError(g, snapshot);
+            return;
+        }
+
+        Font arcadeFont = fonts.getArcadeFont(UI_HUD_FONT_SIZE);
+        g.setFont(arcadeFont);
+        g.setColor(Color.WHITE);
+
+        // Puntuación a la izquierda
+        g.drawString("Score: " + snapshot.getScore(), UI_SCORE_X, UI_SCORE_Y);
+
+        // Nivel en el centro
+        String levelText = "Level: " + snapshot.getCurrentLevel();
+        FontMetrics metrics = fonts.getMetrics(g, arcadeFont);
+        int levelWidth = metrics.stringWidth(levelText);
+        g.drawString(levelText, (getWidth() - levelWidth) / 2, UI_SCORE_Y);
+
+        // Vidas a la derecha
+        g.drawString("Lives: " + snapshot.getLives(), getWidth() - UI_LIVES_OFFSET, UI_SCORE_Y);
+    }
+
+    /**
+     * Maneja el error de carga de fuente, usando una fuente alternativa.
+     */
+    private void handleFontLoadError(Graphics g, FrameSnapshot snapshot) {
+        g.setFont((Font) UI_FALLBACK_FONT);
+        g.drawString("SCORE: " + snapshot.getScore(), UI_SCORE_X, UI_SCORE_Y);
+        g.drawString("LIVES: " + snapshot.getLives(), getWidth() - UI_LIVES_OFFSET, UI_SCORE_Y);
+    }
+
+    /**
+     * Dibuja la pantalla de pausa.
+     */
+    private void drawPauseScreen(Graphics g, FrameSnapshot snapshot) {
+        FontRegistry fonts = FontRegistry.getInstance();
+        if (!fonts.isArcadeFontAvailable()) {
+            handleFontLoadError(g, snapshot);
+            return;
+        }
+
+        Font arcadeFont = fonts.getArcadeFont(UI_HUD_FONT_SIZE);
+        g.setFont(arcadeFont);
+        g.setColor(Color.WHITE);
+        String pauseText = "PAUSE";
+
+        FontMetrics metrics = fonts.getMetrics(g, arcadeFont);
+        int x = (getWidth() - metrics.stringWidth(pauseText)) / 2;
+        int y = (getHeight() - metrics.getHeight()) / 2 + metrics.getAscent();
+
+        g.drawString(pauseText, x, y);
+    }
+
+    /**
+     * Establece el buffer del que se leen las instantáneas a renderizar.
+     *
+     * @param snapshotBuffer Buffer publicado por el hilo del juego
+     */
+    public void setSnapshotBuffer(SnapshotBuffer snapshotBuffer) {
+        this.snapshotBuffer = snapshotBuffer;
+    }
+
+    /**
+     * Establece el perfilador en el que se mide el pintado y cuyas mediciones
+     * muestra el overlay.
+     *
+     * @param profiler Perfilador de fases
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Muestra u oculta el overlay del perfilador.
+     */
+    public void toggleProfilerOverlay() {
+        profilerOverlayVisible = !profilerOverlayVisible;
+        repaint();
+    }
+
+    /**
+     * Actualiza la referencia al juego.
+     */
+    public void updateGameReference(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Establece el estado de pausa del juego.
+     */
+    public void setPaused(boolean paused) {
+        this.isPaused = paused;
+        repaint();
+    }
+
+    /**
+     * Solicita el foco para capturar el input del teclado.
+     */
+    public void requestGameFocus() {
+        if (renderMode == RenderMode.ACTIVE) {
+            canvas.requestFocus();
+        } else {
+            requestFocus();
+        }
+    }
+}
@@ -36,6 +36,26 @@ public class GameWindow extends JFrame {
     // Referencia al juego
     private Game game;
 
+    // Receptor avisado al crear cada panel diferido
+    private PanelListener panelListener = new PanelListener() {
+    };
+
+    /**
+     * Receptor de la creación de los paneles que se construyen de forma
+     * diferida, para poder configurarlos la primera vez que se necesitan.
+     */
+    public interface PanelListener {
+
+        default void onGamePanelCreated(GamePanel panel) {
+        }
+
+        default void onGameOverPanelCreated(GameOverPanel panel) {
+        }
+
+        default void onVictoryPanelCreated(VictoryPanel panel) {
+        }
+    }
+
     /**
      * Constructor de la ventana principal.
      * Inicializa y configura todos los componentes de la ventana.
@@ -45,7 +65,7 @@ public class GameWindow extends JFrame {
     public GameWindow(Game game) {
         this.game = game;
         setupWindow();
-        initializePanels(game);
+        initializePanels();
     }
 
     /**
@@ -65,23 +85,13 @@ public class GameWindow extends JFrame {
     }
 
     /**
-     * Inicializa y configura todos los paneles del juego.
-     * Crea las instancias de cada panel y las añade al contenedor principal.
-     *
-     * @param game Referencia al juego para los paneles que la necesiten
+     * Inicializa el panel del menú, el único que se muestra al arrancar. Los
+     * paneles de juego, victoria y fin de juego se crean la primera vez que se
+     * muestran o se piden.
      */
-    private void initializePanels(Game game) {
-        // Creación de paneles
-        gamePanel = new GamePanel(game);
+    private void initializePanels() {
         menuPanel = new MenuPanel();
-        gameOverPanel = new GameOverPanel();
-        victoryPanel = new VictoryPanel();
-
-        // Añadir paneles al contenedor principal
         mainContainer.add(menuPanel, PANEL_MENU);
-        mainContainer.add(gamePanel, PANEL_GAME);
-        mainContainer.add(gameOverPanel, PANEL_GAMEOVER);
-        mainContainer.add(victoryPanel, PANEL_VICTORY);
 
         // Configuración final de la ventana
         pack();
@@ -102,6 +112,15 @@ public class GameWindow extends JFrame {
             throw new IllegalArgumentException("Panel inválido: " + panelName);
         }
 
+        // Se crea el panel si todavía no se ha mostrado nunca
+        switch (panelName) {
+            case PANEL_GAME -> getGamePanel();
+            case PANEL_GAMEOVER -> getGameOverPanel();
+            case PANEL_VICTORY -> getVictoryPanel();
+            default -> {
+            }
+        }
+
         boolean isGamePanel = panelName.equals(PANEL_GAME);
         configureWindowForPanel(isGamePanel);
         cardLayout.show(mainContainer, panelName);
@@ -137,33 +156,34 @@ public class GameWindow extends JFrame {
     }
 
     /**
-     * Actualiza el estado del juego en los paneles correspondientes.
+     * Actualiza la referencia al juego en la ventana y sus paneles.
      *
-     * @param game Referencia actualizada al juego
+     * @param game Nueva referencia al juego
      */
-    public void updateGameState(Game game) {
-        gamePanel.updateGameObjects(
-                game.getBall(),
-                game.getPaddle(),
-                game.getBricks(),
-                game.getLives(),
-                game.getScore(),
-                game.getCurrentLevel()
-        );
+    public void updateGameReference(Game game) {
+        this.game = game;
+        if (gamePanel != null) {
+            gamePanel.updateGameReference(game);
+        }
     }
 
     /**
-     * Actualiza la referencia al juego en la ventana y sus paneles.
+     * Establece el receptor avisado al crear los paneles diferidos. Debe
+     * asignarse antes de mostrar o pedir cualquiera de ellos.
      *
-     * @param game Nueva referencia al juego
+     * @param panelListener Receptor de la creación de paneles
      */
-    public void updateGameReference(Game game) {
-        this.game = game;
-        gamePanel.updateGameReference(game);
+    public void setPanelListener(PanelListener panelListener) {
+        this.panelListener = panelListener;
     }
 
-    // Getters para acceder a los paneles
+    // Getters para acceder a los paneles; los diferidos se crean al pedirlos
     public GamePanel getGamePanel() {
+        if (gamePanel == null) {
+            gamePanel = new GamePanel(game);
+            mainContainer.add(gamePanel, PANEL_GAME);
+            panelListener.onGamePanelCreated(gamePanel);
+        }
         return gamePanel;
     }
 
@@ -172,10 +192,20 @@ public class GameWindow extends JFrame {
     }
 
     public GameOverPanel getGameOverPanel() {
+        if (gameOverPanel == null) {
+            gameOverPanel = new GameOverPanel();
+            mainContainer.add(gameOverPanel, PANEL_GAMEOVER);
+            panelListener.onGameOverPanelCreated(gameOverPanel);
+        }
         return gameOverPanel;
     }
 
     public VictoryPanel getVictoryPanel() {
+        if (victoryPanel == null) {
+            victoryPanel = new VictoryPanel();
+            mainContainer.add(victoryPanel, PANEL_VICTORY);
+            panelListener.onVictoryPanelCreated(victoryPanel);
+        }
         return victoryPanel;
     }
 }
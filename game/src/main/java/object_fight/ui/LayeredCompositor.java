@@ -0,0 +1,216 @@
+package object_fight.ui;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.game.FrameSnapshot;
+
+import java.awt.*;
+import java.awt.image.VolatileImage;
+
+import static object_fight.utils.Constants.SPRITE_MARGIN;
+
+/**
+ * Compone cada frame a partir de capas. El fondo ya escalado al tamaño del
+ * panel y los ladrillos que no se mueven se guardan en imágenes
+ * {@link VolatileImage}, que Java2D mantiene en la memoria de vídeo, y solo se
+ * vuelven a dibujar cuando cambian: el fondo al cambiar el tamaño y los
+ * ladrillos cuando cambia {@link FrameSnapshot#getStaticBricksVersion()}. En
+ * el resto de frames se copian las dos capas y se dibujan encima los objetos
+ * que se mueven. De la capa de ladrillos solo se copia el rectángulo que
+ * ocupan, porque el resto es transparente.
+ *
+ * El contenido de una VolatileImage se puede perder en cualquier momento
+ * (cambio de modo de pantalla, bloqueo de sesión...), así que cada capa se
+ * valida antes de usarla y se repinta si se ha perdido.
+ *
+ * No es seguro entre hilos: lo usa solo el hilo que pinta.
+ */
+public class LayeredCompositor {
+
+    /**
+     * Capa guardada en una VolatileImage del tamaño del destino.
+     */
+    private abstract static class Layer {
+
+        private final int transparency;
+        private VolatileImage image;
+        private boolean dirty = true;
+
+        // Parte de la capa con contenido, la única que se copia al destino
+        protected final Rectangle bounds = new Rectangle();
+
+        Layer(int transparency) {
+            this.transparency = transparency;
+        }
+
+        /**
+         * Marca la capa para que se repinte la próxima vez que se dibuje.
+         */
+        void invalidate() {
+            dirty = true;
+        }
+
+        /**
+         * Dibuja la capa en el destino, repintándola antes si está marcada, si
+         * ha cambiado el tamaño o si se ha perdido su contenido.
+         */
+        void draw(Graphics g, GraphicsConfiguration gc, FrameSnapshot snapshot, int width, int height) {
+            do {
+                int status = image == null || image.getWidth() != width || image.getHeight() != height
+                        ? VolatileImage.IMAGE_INCOMPATIBLE
+                        : image.validate(gc);
+
+                if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                    if (image != null) {
+                        image.flush();
+                    }
+                    image = gc.createCompatibleVolatileImage(width, height, transparency);
+                    dirty = true;
+                } else if (status == VolatileImage.IMAGE_RESTORED) {
+                    dirty = true;
+                }
+
+                if (dirty) {
+                    Graphics2D lg = image.createGraphics();
+                    try {
+                        if (transparency != Transparency.OPAQUE) {
+                            // Se vacía la capa, que conserva el contenido anterior
+                            lg.setComposite(AlphaComposite.Clear);
+                            lg.fillRect(0, 0, width, height);
+                            lg.setComposite(AlphaComposite.SrcOver);
+                        }
+                        bounds.setBounds(0, 0, width, height);
+                        paint(lg, snapshot, width, height);
+                    } finally {
+                        lg.dispose();
+                    }
+                    dirty = false;
+                }
+
+                if (!bounds.isEmpty()) {
+                    int x2 = bounds.x + bounds.width;
+                    int y2 = bounds.y + bounds.height;
+                    g.drawImage(image, bounds.x, bounds.y, x2, y2, bounds.x, bounds.y, x2, y2, null);
+                }
+
+                if (image.contentsLost()) {
+                    dirty = true;
+                }
+            } while (dirty);
+        }
+
+        /**
+         * Dibuja el contenido de la capa. Puede reducir {@link #bounds} a la
+         * parte que ha dibujado.
+         */
+        abstract void paint(Graphics2D g, FrameSnapshot snapshot, int width, int height);
+    }
+
+    // Dibuja los objetos del juego
+    private final FrameRenderer renderer;
+
+    // Imagen de fondo original, que se escala una sola vez al tamaño de la capa
+    private Image backgroundImage;
+
+    // Capa del fondo escalado
+    private final Layer backgroundLayer = new Layer(Transparency.OPAQUE) {
+        @Override
+        void paint(Graphics2D g, FrameSnapshot snapshot, int width, int height) {
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, width, height);
+            if (backgroundImage != null) {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(backgroundImage, 0, 0, width, height, null);
+            }
+        }
+    };
+
+    // Capa de los ladrillos que no se mueven y versión que contiene
+    private final Layer staticBricksLayer = new Layer(Transparency.TRANSLUCENT) {
+        @Override
+        void paint(Graphics2D g, FrameSnapshot snapshot, int width, int height) {
+            renderer.renderStaticBricks(g, snapshot);
+            staticBricksBounds(snapshot, bounds);
+            bounds.grow(SPRITE_MARGIN, SPRITE_MARGIN);
+            bounds.setBounds(bounds.intersection(new Rectangle(0, 0, width, height)));
+        }
+    };
+    private long staticBricksVersion = -1;
+
+    /**
+     * Constructor del compositor.
+     *
+     * @param renderer Renderizador con el que se dibujan los objetos del juego
+     */
+    public LayeredCompositor(FrameRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Establece la imagen de fondo, que se escala al tamaño del destino.
+     *
+     * @param backgroundImage Imagen de fondo, o null para un fondo negro
+     */
+    public void setBackgroundImage(Image backgroundImage) {
+        this.backgroundImage = backgroundImage;
+        backgroundLayer.invalidate();
+    }
+
+    /**
+     * Dibuja un frame completo: fondo, ladrillos estáticos y objetos móviles.
+     *
+     * @param g Contexto gráfico de destino
+     * @param snapshot Instantánea a dibujar, o null para dibujar solo el fondo
+     * @param width Ancho del destino
+     * @param height Alto del destino
+     */
+    public void compose(Graphics g, FrameSnapshot snapshot, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+        backgroundLayer.draw(g, gc, snapshot, width, height);
+
+        if (snapshot == null) {
+            return;
+        }
+
+        if (snapshot.getStaticBricksVersion() != staticBricksVersion) {
+            staticBricksVersion = snapshot.getStaticBricksVersion();
+            staticBricksLayer.invalidate();
+        }
+        staticBricksLayer.draw(g, gc, snapshot, width, height);
+
+        renderer.renderDynamic(g, snapshot);
+    }
+
+    /**
+     * Calcula el rectángulo que ocupan los ladrillos estáticos de la
+     * instantánea, vacío si no hay ninguno.
+     */
+    private static void staticBricksBounds(FrameSnapshot snapshot, Rectangle bounds) {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+
+        for (int i = 0; i < snapshot.getBrickCount(); i++) {
+            if (snapshot.isBrickMovable(i)) {
+                continue;
+            }
+            minX = Math.min(minX, snapshot.getBrickRenderX(i));
+            minY = Math.min(minY, snapshot.getBrickRenderY(i));
+            maxX = Math.max(maxX, snapshot.getBrickRenderX(i) + snapshot.getBrickWidth(i));
+            maxY = Math.max(maxY, snapshot.getBrickRenderY(i) + snapshot.getBrickHeight(i));
+        }
+
+        if (minX > maxX) {
+            bounds.setBounds(0, 0, 0, 0);
+        } else {
+            bounds.setBounds(minX, minY, maxX - minX, maxY - minY);
+        }
+    }
+}
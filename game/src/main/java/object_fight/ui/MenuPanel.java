@@ -1,5 +1,7 @@
 package object_fight.ui;
 
+import object_fight.utils.AssetManager;
+
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
@@ -7,6 +9,8 @@ import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 
+import static object_fight.utils.Constants.*;
+
 /**
  *
  * @author jairo
@@ -21,13 +25,22 @@ public class MenuPanel extends javax.swing.JPanel {
      */
     public MenuPanel() {
         initComponents();
-        backgroundImage = new ImageIcon(getClass().getResource("/backgrounds/game/GameBackground.jpg")).getImage();
+        backgroundImage = AssetManager.getInstance().getImage(ASSET_BACKGROUND_IMAGE);
         initializeButtonImages();
+
+        // Se refresca el indicador de carga mientras queden recursos pendientes
+        Timer loadingTimer = new Timer(UI_LOADING_REFRESH_MS, e -> {
+            if (AssetManager.getInstance().getProgress() >= 1f) {
+                ((Timer) e.getSource()).stop();
+            }
+            repaint();
+        });
+        loadingTimer.start();
     }
 
     /**
      * Sobrescribe el método `paintComponent` para dibujar la imagen de fondo escalada
-     * al tamaño del panel.
+     * al tamaño del panel y, mientras queden recursos por cargar, el indicador de carga.
      */
     @Override
     protected void paintComponent(Graphics g) {
@@ -35,6 +48,36 @@ public class MenuPanel extends javax.swing.JPanel {
         if (backgroundImage != null) {
             g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
         }
+        drawLoadingIndicator(g);
+    }
+
+    /**
+     * Dibuja en la parte inferior del panel una barra con el progreso de la
+     * carga de recursos y el número de recursos terminados. No dibuja nada si
+     * ya se ha cargado todo.
+     *
+     * @param g El contexto gráfico del panel
+     */
+    private void drawLoadingIndicator(Graphics g) {
+        AssetManager assets = AssetManager.getInstance();
+        float progress = assets.getProgress();
+        if (progress >= 1f) {
+            return;
+        }
+
+        int x = (getWidth() - UI_LOADING_BAR_WIDTH) / 2;
+        int y = getHeight() - UI_LOADING_MARGIN - UI_LOADING_BAR_HEIGHT;
+
+        g.setColor(Color.DARK_GRAY);
+        g.fillRect(x, y, UI_LOADING_BAR_WIDTH, UI_LOADING_BAR_HEIGHT);
+        g.setColor(Color.CYAN);
+        g.fillRect(x, y, (int) (UI_LOADING_BAR_WIDTH * progress), UI_LOADING_BAR_HEIGHT);
+
+        String text = "Cargando " + assets.getCompletedCount() + "/" + assets.getRequestedCount();
+        g.setColor(Color.WHITE);
+        g.setFont(UI_FALLBACK_FONT.deriveFont(Font.PLAIN, 14f));
+        FontMetrics metrics = g.getFontMetrics();
+        g.drawString(text, (getWidth() - metrics.stringWidth(text)) / 2, y - metrics.getDescent() - 4);
     }
 
     /**
@@ -42,49 +85,47 @@ public class MenuPanel extends javax.swing.JPanel {
      * visuales a los botones.
      */
     private void initializeButtonImages() {
-        try {
-            // Carga las imágenes originales de los botones
-            BufferedImage imgNewGame = ImageIO.read(getClass().getResource("/backgrounds/buttons/NewGame.png"));
-            BufferedImage imgExit = ImageIO.read(getClass().getResource("/backgrounds/buttons/Exit.png"));
-
-            // Configuración de tamaño para el botón "New Game"
-            int newGameHeight = 80;  // Altura para el botón de "New Game"
-            double newGameRatio = (double) imgNewGame.getWidth() / imgNewGame.getHeight();
-            int newGameWidth = (int) (newGameHeight * newGameRatio);
-
-            // Configuración de tamaño para el botón "Exit"
-            int exitHeight = 80;  // Altura para el botón "Exit"
-            double exitRatio = (double) imgExit.getWidth() / imgExit.getHeight();
-            int exitWidth = (int) (exitHeight * exitRatio);
-
-            // Asigna el tamaño preferido a los botones
-            jButtonNuevaPartida.setPreferredSize(new Dimension(newGameWidth, newGameHeight));
-            jButtonSalir.setPreferredSize(new Dimension(exitWidth, exitHeight));
-
-            // Escala las imágenes al tamaño deseado
-            Image newGameScaled = imgNewGame.getScaledInstance(newGameWidth, newGameHeight, Image.SCALE_SMOOTH);
-            Image exitScaled = imgExit.getScaledInstance(exitWidth, exitHeight, Image.SCALE_SMOOTH);
-
-            // Aplica las imágenes escaladas como iconos de los botones
-            jButtonNuevaPartida.setIcon(new ImageIcon(newGameScaled));
-            jButtonSalir.setIcon(new ImageIcon(exitScaled));
-
-            // Configuración visual común para ambos botones
-            for (JButton button : new JButton[]{jButtonNuevaPartida, jButtonSalir}) {
-                button.setContentAreaFilled(false);
-                button.setBorderPainted(false);
-                button.setFocusPainted(false);
-                button.setOpaque(false);
-                button.setHorizontalAlignment(JButton.CENTER);
-                button.setVerticalAlignment(JButton.CENTER);
-            }
-
-            revalidate();
-            repaint();
+        // Obtiene las imágenes originales de los botones, compartidas entre paneles
+        BufferedImage imgNewGame = AssetManager.getInstance().getImage(ASSET_NEW_GAME_BUTTON);
+        BufferedImage imgExit = AssetManager.getInstance().getImage(ASSET_EXIT_BUTTON);
+        if (imgNewGame == null || imgExit == null) {
+            return;
+        }
 
-        } catch (IOException e) {
-            e.printStackTrace();
+        // Configuración de tamaño para el botón "New Game"
+        int newGameHeight = 80;  // Altura para el botón de "New Game"
+        double newGameRatio = (double) imgNewGame.getWidth() / imgNewGame.getHeight();
+        int newGameWidth = (int) (newGameHeight * newGameRatio);
+
+        // Configuración de tamaño para el botón "Exit"
+        int exitHeight = 80;  // Altura para el botón "Exit"
+        double exitRatio = (double) imgExit.getWidth() / imgExit.getHeight();
+        int exitWidth = (int) (exitHeight * exitRatio);
+
+        // Asigna el tamaño preferido a los botones
+        jButtonNuevaPartida.setPreferredSize(new Dimension(newGameWidth, newGameHeight));
+        jButtonSalir.setPreferredSize(new Dimension(exitWidth, exitHeight));
+
+        // Escala las imágenes al tamaño deseado
+        Image newGameScaled = imgNewGame.getScaledInstance(newGameWidth, newGameHeight, Image.SCALE_SMOOTH);
+        Image exitScaled = imgExit.getScaledInstance(exitWidth, exitHeight, Image.SCALE_SMOOTH);
+
+        // Aplica las imágenes escaladas como iconos de los botones
+        jButtonNuevaPartida.setIcon(new ImageIcon(newGameScaled));
+        jButtonSalir.setIcon(new ImageIcon(exitScaled));
+
+        // Configuración visual común para ambos botones
+        for (JButton button : new JButton[]{jButtonNuevaPartida, jButtonSalir}) {
+            button.setContentAreaFilled(false);
+            button.setBorderPainted(false);
+            button.setFocusPainted(false);
+            button.setOpaque(false);
+            button.setHorizontalAlignment(JButton.CENTER);
+            button.setVerticalAlignment(JButton.CENTER);
         }
+
+        revalidate();
+        repaint();
     }
 
     /**
@@ -0,0 +1,63 @@
+package object_fight.ui;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.profiling.FramePhase;
+import object_fight.profiling.FrameProfiler;
+
+import java.awt.*;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Dibuja sobre el frame una tabla con los percentiles de duración de cada fase
+ * del bucle del juego. Se muestra u oculta con F3.
+ */
+public class ProfilerOverlay {
+
+    // Rectángulo ocupado por la tabla en el último dibujo
+    private final Rectangle bounds = new Rectangle();
+
+    /**
+     * Dibuja la tabla del perfilador en la esquina superior izquierda, bajo la
+     * información de la partida.
+     *
+     * @param g Contexto gráfico para dibujar
+     * @param profiler Perfilador cuyas mediciones se muestran
+     */
+    public void render(Graphics g, FrameProfiler profiler) {
+        g.setFont(PROFILER_OVERLAY_FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = metrics.getHeight();
+
+        String header = FrameProfiler.formatHeader();
+        int rows = FramePhase.values().length + 1;
+        int width = metrics.stringWidth(header) + 2 * PROFILER_OVERLAY_PADDING;
+        int height = rows * lineHeight + 2 * PROFILER_OVERLAY_PADDING;
+
+        // Fondo semitransparente para que el texto se lea sobre el juego
+        g.setColor(PROFILER_OVERLAY_BACKGROUND);
+        g.fillRect(PROFILER_OVERLAY_X, PROFILER_OVERLAY_Y, width, height);
+        bounds.setBounds(PROFILER_OVERLAY_X, PROFILER_OVERLAY_Y, width, height);
+
+        g.setColor(Color.WHITE);
+        int x = PROFILER_OVERLAY_X + PROFILER_OVERLAY_PADDING;
+        int y = PROFILER_OVERLAY_Y + PROFILER_OVERLAY_PADDING + metrics.getAscent();
+        g.drawString(header, x, y);
+        for (FramePhase phase : FramePhase.values()) {
+            y += lineHeight;
+            g.drawString(profiler.formatRow(phase), x, y);
+        }
+    }
+
+    /**
+     * Devuelve el rectángulo que ocupó la tabla la última vez que se dibujó.
+     *
+     * @return Rectángulo de la tabla, vacío si no se ha dibujado nunca
+     */
+    public Rectangle getBounds() {
+        return bounds;
+    }
+}
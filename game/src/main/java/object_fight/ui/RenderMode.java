@@ -0,0 +1,39 @@
+package object_fight.ui;
+
+/**
+ * @author jairo
+ */
+
+import static object_fight.utils.Constants.RENDER_MODE_PROPERTY;
+
+/**
+ * Modos de renderizado del panel de juego.
+ */
+public enum RenderMode {
+
+    // Swing pinta el panel en el hilo de eventos cuando se llama a repaint()
+    PASSIVE,
+
+    // El hilo del juego dibuja y presenta cada frame con un BufferStrategy
+    ACTIVE,
+
+    // Swing repinta solo las regiones que han cambiado desde el último frame
+    PARTIAL;
+
+    /**
+     * Obtiene el modo de renderizado indicado en la propiedad del sistema
+     * {@code object_fight.renderMode}. Si no está definida o no es válida se
+     * usa el modo activo.
+     *
+     * @return Modo de renderizado configurado
+     */
+    public static RenderMode fromSystemProperty() {
+        String value = System.getProperty(RENDER_MODE_PROPERTY, ACTIVE.name());
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Modo de renderizado desconocido: " + value);
+            return ACTIVE;
+        }
+    }
+}
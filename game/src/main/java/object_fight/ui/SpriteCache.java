@@ -0,0 +1,234 @@
+package object_fight.ui;
+
+/**
+ * @author jairo
+ */
+
+import object_fight.gameobjects.Ball;
+import object_fight.gameobjects.Paddle;
+import object_fight.gameobjects.bricks.Brick;
+import object_fight.gameobjects.bricks.BrickType;
+import object_fight.gameobjects.bricks.ResistantBrick;
+import object_fight.gameobjects.bricks.UnbreakableBrick;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Caché de sprites prerrenderizados de la bola, la paleta y cada tipo de
+ * ladrillo. La primera vez que se pide una variante (tipo, fase de daño y
+ * tamaño) se dibuja con su método {@code paint} en una imagen compatible con
+ * el dispositivo de destino, que Java2D puede mantener acelerada; a partir de
+ * ahí cada frame solo copia la imagen, sin crear pinturas, colores ni trazos.
+ *
+ * Las imágenes tienen un margen alrededor del objeto porque algunos bordes
+ * se dibujan un píxel o dos por fuera de su rectángulo. La paleta cambia de
+ * ancho de forma continua en algunos niveles, así que su ancho se agrupa en
+ * tramos y el sprite del tramo se escala al ancho real. Cada variante guarda
+ * un número limitado de tamaños y descarta el menos usado al llenarse.
+ *
+ * No es segura entre hilos: la usa solo el hilo que pinta.
+ */
+public class SpriteCache {
+
+    // Variantes de sprite; los ladrillos resistentes tienen una por fase de daño
+    private static final int BALL = 0;
+    private static final int PADDLE = 1;
+    private static final int NORMAL_BRICK = 2;
+    private static final int UNBREAKABLE_BRICK = 3;
+    private static final int RESISTANT_BRICK = 4;
+    private static final int VARIANT_COUNT = RESISTANT_BRICK + RESISTANT_BRICK_INITIAL_HITS;
+
+    /**
+     * Imágenes de una variante en los distintos tamaños pedidos.
+     */
+    private static class SpriteSet {
+
+        private final int[] widths = new int[SPRITE_CACHE_SIZES_PER_VARIANT];
+        private final int[] heights = new int[SPRITE_CACHE_SIZES_PER_VARIANT];
+        private final Image[] images = new Image[SPRITE_CACHE_SIZES_PER_VARIANT];
+        private final long[] lastUse = new long[SPRITE_CACHE_SIZES_PER_VARIANT];
+        private int count;
+
+        /**
+         * Busca la imagen de un tamaño.
+         *
+         * @return La imagen, o null si no está rasterizada
+         */
+        Image find(int width, int height, long useStamp) {
+            for (int i = 0; i < count; i++) {
+                if (widths[i] == width && heights[i] == height) {
+                    lastUse[i] = useStamp;
+                    return images[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Guarda la imagen de un tamaño, sustituyendo la menos usada si la
+         * variante está llena.
+         */
+        void put(int width, int height, Image image, long useStamp) {
+            int slot = count;
+            if (count < images.length) {
+                count++;
+            } else {
+                slot = 0;
+                for (int i = 1; i < count; i++) {
+                    if (lastUse[i] < lastUse[slot]) {
+                        slot = i;
+                    }
+                }
+                images[slot].flush();
+            }
+            widths[slot] = width;
+            heights[slot] = height;
+            images[slot] = image;
+            lastUse[slot] = useStamp;
+        }
+
+        void clear() {
+            for (int i = 0; i < count; i++) {
+                images[i].flush();
+                images[i] = null;
+            }
+            count = 0;
+        }
+    }
+
+    // Tamaños rasterizados de cada variante
+    private final SpriteSet[] variants = new SpriteSet[VARIANT_COUNT];
+
+    // Contador de usos para saber qué tamaño lleva más tiempo sin dibujarse
+    private long useStamp;
+
+    /**
+     * Constructor de la caché, vacía.
+     */
+    public SpriteCache() {
+        for (int i = 0; i < variants.length; i++) {
+            variants[i] = new SpriteSet();
+        }
+    }
+
+    /**
+     * Dibuja la bola.
+     *
+     * @param g Contexto gráfico de destino
+     * @param x Coordenada X de la esquina superior izquierda
+     * @param y Coordenada Y de la esquina superior izquierda
+     * @param width Ancho de la bola
+     * @param height Alto de la bola
+     */
+    public void drawBall(Graphics g, int x, int y, int width, int height) {
+        g.drawImage(getSprite(g, BALL, width, height), x - SPRITE_MARGIN, y - SPRITE_MARGIN, null);
+    }
+
+    /**
+     * Dibuja la paleta escalando el sprite de su tramo de ancho.
+     *
+     * @param g Contexto gráfico de destino
+     * @param x Coordenada X de la esquina superior izquierda
+     * @param y Coordenada Y de la esquina superior izquierda
+     * @param width Ancho de la paleta
+     * @param height Alto de la paleta
+     */
+    public void drawPaddle(Graphics g, int x, int y, int width, int height) {
+        int bucketWidth = Math.max(SPRITE_PADDLE_WIDTH_STEP,
+                Math.round((float) width / SPRITE_PADDLE_WIDTH_STEP) * SPRITE_PADDLE_WIDTH_STEP);
+        Image sprite = getSprite(g, PADDLE, bucketWidth, height);
+
+        if (bucketWidth == width) {
+            g.drawImage(sprite, x - SPRITE_MARGIN, y - SPRITE_MARGIN, null);
+        } else {
+            g.drawImage(sprite, x - SPRITE_MARGIN, y - SPRITE_MARGIN,
+                    width + 2 * SPRITE_MARGIN, height + 2 * SPRITE_MARGIN, null);
+        }
+    }
+
+    /**
+     * Dibuja un ladrillo del tipo y la fase de daño indicados.
+     *
+     * @param g Contexto gráfico de destino
+     * @param type Tipo del ladrillo
+     * @param x Coordenada X de la esquina superior izquierda
+     * @param y Coordenada Y de la esquina superior izquierda
+     * @param width Ancho del ladrillo
+     * @param height Alto del ladrillo
+     * @param hitsRemaining Golpes que le quedan (solo afecta a los resistentes)
+     */
+    public void drawBrick(Graphics g, BrickType type, int x, int y, int width, int height, int hitsRemaining) {
+        int variant = switch (type) {
+            // Con tres o más golpes restantes el dibujo es el mismo
+            case RESISTANT ->
+                    RESISTANT_BRICK + Math.max(1, Math.min(hitsRemaining, RESISTANT_BRICK_INITIAL_HITS)) - 1;
+            case UNBREAKABLE ->
+                    UNBREAKABLE_BRICK;
+            default ->
+                    NORMAL_BRICK;
+        };
+        g.drawImage(getSprite(g, variant, width, height), x - SPRITE_MARGIN, y - SPRITE_MARGIN, null);
+    }
+
+    /**
+     * Descarta todos los sprites rasterizados.
+     */
+    public void clear() {
+        for (SpriteSet set : variants) {
+            set.clear();
+        }
+    }
+
+    /**
+     * Devuelve el sprite de una variante y tamaño, rasterizándolo si no está
+     * en la caché.
+     */
+    private Image getSprite(Graphics g, int variant, int width, int height) {
+        SpriteSet set = variants[variant];
+        Image sprite = set.find(width, height, ++useStamp);
+        if (sprite == null) {
+            sprite = rasterize(g, variant, width, height);
+            set.put(width, height, sprite, useStamp);
+        }
+        return sprite;
+    }
+
+    /**
+     * Dibuja una variante en una imagen nueva compatible con el destino.
+     */
+    private Image rasterize(Graphics g, int variant, int width, int height) {
+        int imageWidth = width + 2 * SPRITE_MARGIN;
+        int imageHeight = height + 2 * SPRITE_MARGIN;
+
+        BufferedImage image;
+        if (g instanceof Graphics2D g2d && g2d.getDeviceConfiguration() != null) {
+            image = g2d.getDeviceConfiguration().createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT);
+        } else {
+            image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        Graphics2D sg = image.createGraphics();
+        try {
+            int x = SPRITE_MARGIN;
+            int y = SPRITE_MARGIN;
+            switch (variant) {
+                case BALL ->
+                        Ball.paint(sg, x, y, width, height);
+                case PADDLE ->
+                        Paddle.paint(sg, x, y, width, height);
+                case NORMAL_BRICK ->
+                        Brick.paint(sg, x, y, width, height);
+                case UNBREAKABLE_BRICK ->
+                        UnbreakableBrick.paint(sg, x, y, width, height);
+                default ->
+                        ResistantBrick.paint(sg, x, y, width, height, variant - RESISTANT_BRICK + 1);
+            }
+        } finally {
+            sg.dispose();
+        }
+        return image;
+    }
+}
@@ -1,5 +1,7 @@
 package object_fight.ui;
 
+import object_fight.utils.AssetManager;
+
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
@@ -7,6 +9,8 @@ import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 
+import static object_fight.utils.Constants.*;
+
 /**
  *
  * @author jairo
@@ -22,7 +26,7 @@ public class VictoryPanel extends javax.swing.JPanel {
      */
     public VictoryPanel() {
         initComponents();
-        backgroundImage = new ImageIcon(getClass().getResource("/backgrounds/game/GameBackground.jpg")).getImage();
+        backgroundImage = AssetManager.getInstance().getImage(ASSET_BACKGROUND_IMAGE);
 
         // Se inicializa las imagenes de los botones
         initializeButtonImages();
@@ -43,49 +47,47 @@ public class VictoryPanel extends javax.swing.JPanel {
      * configuraciones visuales a los botones.
      */
     private void initializeButtonImages() {
-        try {
-            // Carga las imágenes originales de los botones
-            BufferedImage imgNewGame = ImageIO.read(getClass().getResource("/backgrounds/buttons/NewGame.png"));
-            BufferedImage imgExit = ImageIO.read(getClass().getResource("/backgrounds/buttons/Exit.png"));
-
-            // Configuración de tamaño para el botón "New Game"
-            int newGameHeight = 80;  // Altura para el botón de "New Game"
-            double newGameRatio = (double) imgNewGame.getWidth() / imgNewGame.getHeight();
-            int newGameWidth = (int) (newGameHeight * newGameRatio);
-
-            // Configuración de tamaño para el botón "Exit"
-            int exitHeight = 80;  // Altura para el botón "Exit"
-            double exitRatio = (double) imgExit.getWidth() / imgExit.getHeight();
-            int exitWidth = (int) (exitHeight * exitRatio);
-
-            // Asigna el tamaño preferido a los botones
-            jButtonNuevaPartida.setPreferredSize(new Dimension(newGameWidth, newGameHeight));
-            jButtonSalir.setPreferredSize(new Dimension(exitWidth, exitHeight));
-
-            // Escala las imágenes al tamaño deseado
-            Image newGameScaled = imgNewGame.getScaledInstance(newGameWidth, newGameHeight, Image.SCALE_SMOOTH);
-            Image exitScaled = imgExit.getScaledInstance(exitWidth, exitHeight, Image.SCALE_SMOOTH);
-
-            // Aplica las imágenes escaladas como iconos de los botones
-            jButtonNuevaPartida.setIcon(new ImageIcon(newGameScaled));
-            jButtonSalir.setIcon(new ImageIcon(exitScaled));
-
-            // Configuración visual común para ambos botones
-            for (JButton button : new JButton[]{jButtonNuevaPartida, jButtonSalir}) {
-                button.setContentAreaFilled(false);
-                button.setBorderPainted(false);
-                button.setFocusPainted(false);
-                button.setOpaque(false);
-                button.setHorizontalAlignment(JButton.CENTER);
-                button.setVerticalAlignment(JButton.CENTER);
-            }
-
-            revalidate();
-            repaint();
+        // Obtiene las imágenes originales de los botones, compartidas entre paneles
+        BufferedImage imgNewGame = AssetManager.getInstance().getImage(ASSET_NEW_GAME_BUTTON);
+        BufferedImage imgExit = AssetManager.getInstance().getImage(ASSET_EXIT_BUTTON);
+        if (imgNewGame == null || imgExit == null) {
+            return;
+        }
 
-        } catch (IOException e) {
-            e.printStackTrace();
+        // Configuración de tamaño para el botón "New Game"
+        int newGameHeight = 80;  // Altura para el botón de "New Game"
+        double newGameRatio = (double) imgNewGame.getWidth() / imgNewGame.getHeight();
+        int newGameWidth = (int) (newGameHeight * newGameRatio);
+
+        // Configuración de tamaño para el botón "Exit"
+        int exitHeight = 80;  // Altura para el botón "Exit"
+        double exitRatio = (double) imgExit.getWidth() / imgExit.getHeight();
+        int exitWidth = (int) (exitHeight * exitRatio);
+
+        // Asigna el tamaño preferido a los botones
+        jButtonNuevaPartida.setPreferredSize(new Dimension(newGameWidth, newGameHeight));
+        jButtonSalir.setPreferredSize(new Dimension(exitWidth, exitHeight));
+
+        // Escala las imágenes al tamaño deseado
+        Image newGameScaled = imgNewGame.getScaledInstance(newGameWidth, newGameHeight, Image.SCALE_SMOOTH);
+        Image exitScaled = imgExit.getScaledInstance(exitWidth, exitHeight, Image.SCALE_SMOOTH);
+
+        // Aplica las imágenes escaladas como iconos de los botones
+        jButtonNuevaPartida.setIcon(new ImageIcon(newGameScaled));
+        jButtonSalir.setIcon(new ImageIcon(exitScaled));
+
+        // Configuración visual común para ambos botones
+        for (JButton button : new JButton[]{jButtonNuevaPartida, jButtonSalir}) {
+            button.setContentAreaFilled(false);
+            button.setBorderPainted(false);
+            button.setFocusPainted(false);
+            button.setOpaque(false);
+            button.setHorizontalAlignment(JButton.CENTER);
+            button.setVerticalAlignment(JButton.CENTER);
         }
+
+        revalidate();
+        repaint();
     }
 
     /**
@@ -0,0 +1,210 @@
+package object_fight.utils;
+
+/**
+ * @author jairo
+ */
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Caché compartida de los recursos del juego: imágenes, sonidos decodificados
+ * y la fuente arcade. Cada recurso se carga una sola vez, en un grupo de hilos
+ * en segundo plano, y todos los paneles reciben la misma instancia. Al
+ * arrancar, {@link #preload()} lanza a la vez la carga de todos los recursos
+ * conocidos para que la interfaz no tenga que esperar a leerlos uno detrás de
+ * otro.
+ *
+ * Es segura entre hilos. Si un recurso no se puede cargar se informa del
+ * error y se devuelve null.
+ */
+public class AssetManager {
+
+    // Instancia única del gestor
+    private static final AssetManager INSTANCE = new AssetManager();
+
+    // Carga de cada recurso por su ruta, para no cargar dos veces el mismo
+    private final Map<String, CompletableFuture<?>> assets = new ConcurrentHashMap<>();
+
+    // Recursos pedidos y recursos ya cargados (o fallidos)
+    private final AtomicInteger requested = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    // Hilos de carga, que terminan solos cuando no hay nada que cargar
+    private final ThreadPoolExecutor loaders;
+
+    // Carga de todos los recursos conocidos, o null si todavía no se ha pedido
+    private CompletableFuture<Void> preload;
+
+    /**
+     * Constructor privado para evitar instanciar.
+     */
+    private AssetManager() {
+        int threads = Math.max(1, Math.min(ASSET_LOADER_THREADS, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadIndex = new AtomicInteger();
+        loaders = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "asset-loader-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        loaders.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Obtiene la única instancia del gestor.
+     *
+     * @return El gestor de recursos
+     */
+    public static AssetManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Empieza a cargar en paralelo todas las imágenes, sonidos y fuentes del
+     * juego si no se había empezado ya. Conviene llamarlo al arrancar, antes
+     * de crear la interfaz.
+     *
+     * @return Carga de todos los recursos, que termina cuando están todos
+     */
+    public synchronized CompletableFuture<Void> preload() {
+        if (preload == null) {
+            CompletableFuture<?>[] all = new CompletableFuture<?>[ASSET_IMAGES.length + ASSET_SOUNDS.length + 1];
+            int i = 0;
+            for (String path : ASSET_IMAGES) {
+                all[i++] = loadImage(path);
+            }
+            for (String name : ASSET_SOUNDS) {
+                all[i++] = loadSound(name);
+            }
+            all[i] = track(FontRegistry.getInstance().preload());
+            preload = CompletableFuture.allOf(all);
+        }
+        return preload;
+    }
+
+    /**
+     * Pide la carga de una imagen de los recursos.
+     *
+     * @param path Ruta de la imagen dentro de los recursos
+     * @return Carga de la imagen, que termina con null si no se pudo leer
+     */
+    public CompletableFuture<BufferedImage> loadImage(String path) {
+        return load(path, AssetManager::readImage);
+    }
+
+    /**
+     * Devuelve una imagen de los recursos, esperando a que termine de
+     * cargarse si hace falta.
+     *
+     * @param path Ruta de la imagen dentro de los recursos
+     * @return La imagen, o null si no se pudo leer
+     */
+    public BufferedImage getImage(String path) {
+        return loadImage(path).join();
+    }
+
+    /**
+     * Pide la carga y decodificación de un sonido de la carpeta de sonidos.
+     *
+     * @param name Nombre del fichero WAV, sin extensión
+     * @return Carga del sonido, que termina con null si no se pudo leer
+     */
+    public CompletableFuture<SoundData> loadSound(String name) {
+        return load(ASSET_SOUNDS_FOLDER + name + ".wav", AssetManager::readSound);
+    }
+
+    /**
+     * Devuelve el número de recursos pedidos hasta ahora.
+     *
+     * @return Recursos pedidos
+     */
+    public int getRequestedCount() {
+        return requested.get();
+    }
+
+    /**
+     * Devuelve el número de recursos que han terminado de cargarse, tanto si
+     * se han leído bien como si han fallado.
+     *
+     * @return Recursos terminados
+     */
+    public int getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * Devuelve la fracción de los recursos pedidos que ya han terminado.
+     *
+     * @return Progreso entre 0 y 1
+     */
+    public float getProgress() {
+        int total = requested.get();
+        return total == 0 ? 1f : (float) completed.get() / total;
+    }
+
+    /**
+     * Devuelve la carga de un recurso, lanzándola en los hilos de carga si es
+     * la primera vez que se pide.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> load(String path, Function<String, T> reader) {
+        return (CompletableFuture<T>) assets.computeIfAbsent(path,
+                key -> track(CompletableFuture.supplyAsync(() -> reader.apply(key), loaders)));
+    }
+
+    /**
+     * Cuenta una carga en el progreso.
+     */
+    private <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        requested.incrementAndGet();
+        future.whenComplete((result, error) -> completed.incrementAndGet());
+        return future;
+    }
+
+    /**
+     * Lee una imagen de los recursos.
+     *
+     * @return La imagen, o null si no se pudo leer
+     */
+    private static BufferedImage readImage(String path) {
+        URL url = AssetManager.class.getResource(path);
+        if (url == null) {
+            System.err.println("No se encuentra la imagen " + path);
+            return null;
+        }
+        try {
+            return ImageIO.read(url);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Lee un fichero de sonido de los recursos y lo decodifica a PCM.
+     *
+     * @return El sonido decodificado, o null si no se pudo leer
+     */
+    private static SoundData readSound(String path) {
+        URL url = AssetManager.class.getResource(path);
+        if (url == null) {
+            System.err.println("No se encuentra el sonido " + path);
+            return null;
+        }
+        try (AudioInputStream in = AudioSystem.getAudioInputStream(url)) {
+            return new SoundData(in.getFormat(), in.readAllBytes());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
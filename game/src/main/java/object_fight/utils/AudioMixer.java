@@ -0,0 +1,322 @@
+package object_fight.utils;
+
+/**
+ * @author jairo
+ */
+
+import javax.sound.sampled.*;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Mezclador de audio por software. Mantiene un número fijo de voces, cada una
+ * reproduciendo un sonido ya decodificado con su propia ganancia y
+ * prioridad, y un hilo de audio dedicado las suma por bloques cortos y
+ * escribe el resultado en una única {@link SourceDataLine}. Así los efectos
+ * que se solapan suenan a la vez en lugar de cortarse, y la latencia queda
+ * acotada por el tamaño del bloque y del buffer de la línea.
+ *
+ * Si todas las voces están ocupadas, un sonido nuevo sustituye a la voz de
+ * menor prioridad (la más antigua si hay varias) siempre que esa prioridad no
+ * sea mayor que la suya; si no, el sonido nuevo se descarta.
+ *
+ * Los sonidos se registran una vez y se identifican por un número. Las
+ * peticiones de reproducción no tocan las voces: se encolan como órdenes en
+ * una {@link SoundCommandQueue} que el hilo de audio vacía antes de mezclar
+ * cada bloque, así que quien pide un sonido nunca espera al hilo de audio ni
+ * al dispositivo. Las voces solo las modifica el hilo de audio.
+ *
+ * La línea y el hilo se crean en {@link #start()}. Mientras no se haya
+ * llamado, o si no hay dispositivo de audio, el mezclador no reproduce nada.
+ */
+public class AudioMixer implements Runnable {
+
+    // Formato de la mezcla y de la línea: PCM de 16 bits con signo, little-endian
+    public static final AudioFormat FORMAT =
+            new AudioFormat(AUDIO_SAMPLE_RATE, 16, AUDIO_CHANNELS, true, false);
+
+    // Órdenes codificadas en un long: tipo, bucle, prioridad, ganancia e identificador del sonido
+    private static final long COMMAND_PLAY = 1;
+    private static final long COMMAND_STOP = 2;
+    private static final int COMMAND_TYPE_SHIFT = 56;
+    private static final int COMMAND_LOOP_SHIFT = 48;
+    private static final int COMMAND_PRIORITY_SHIFT = 40;
+    private static final int COMMAND_GAIN_SHIFT = 24;
+    private static final int COMMAND_SOUND_MASK = 0xFFFFFF;
+
+    // Sonidos registrados, indexados por su identificador (se sustituye el array al crecer)
+    private volatile short[][] sounds = new short[0][];
+
+    // Órdenes pendientes para el hilo de audio y receptor con el que se ejecutan
+    private final SoundCommandQueue commands = new SoundCommandQueue(AUDIO_COMMAND_QUEUE_CAPACITY);
+    private final LongConsumer commandHandler = this::execute;
+
+    // Muestras de cada voz (intercaladas por canal), o null si la voz está libre
+    private final short[][] voiceSamples = new short[AUDIO_VOICES][];
+
+    // Estado de cada voz: posición en muestras, ganancia en punto fijo (8 bits), prioridad...
+    private final int[] voicePosition = new int[AUDIO_VOICES];
+    private final int[] voiceGain = new int[AUDIO_VOICES];
+    private final int[] voicePriority = new int[AUDIO_VOICES];
+    private final boolean[] voiceLoop = new boolean[AUDIO_VOICES];
+    private final long[] voiceStart = new long[AUDIO_VOICES];
+
+    // Sonido que reproduce cada voz, para poder detenerlo
+    private final int[] voiceSound = new int[AUDIO_VOICES];
+
+    // Orden de inicio de las voces, para sustituir la más antigua
+    private long startCounter;
+
+    // Buffers del hilo de audio: suma de las voces y bytes para la línea
+    private final int[] mixBuffer = new int[AUDIO_BLOCK_FRAMES * AUDIO_CHANNELS];
+    private final byte[] outputBuffer = new byte[AUDIO_BLOCK_FRAMES * FORMAT.getFrameSize()];
+
+    // Línea de salida e hilo de audio
+    private SourceDataLine line;
+    private Thread audioThread;
+    private volatile boolean running;
+    private boolean unavailable;
+
+    /**
+     * Convierte un sonido decodificado al formato de la mezcla.
+     *
+     * @param data Sonido decodificado
+     * @return Muestras de 16 bits intercaladas por canal, o null si no se
+     * puede convertir
+     */
+    public static short[] toMixFormat(SoundData data) {
+        if (data == null) {
+            return null;
+        }
+
+        byte[] bytes = data.getSamples();
+        if (!data.getFormat().matches(FORMAT)) {
+            try (AudioInputStream source = new AudioInputStream(new ByteArrayInputStream(bytes),
+                    data.getFormat(), data.getFrameCount());
+                 AudioInputStream converted = AudioSystem.getAudioInputStream(FORMAT, source)) {
+                bytes = converted.readAllBytes();
+            } catch (Exception e) {
+                e.printStackTrace();
+                return null;
+            }
+        }
+
+        short[] samples = new short[bytes.length / 2];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) ((bytes[2 * i] & 0xFF) | (bytes[2 * i + 1] << 8));
+        }
+        return samples;
+    }
+
+    /**
+     * Registra un sonido para poder reproducirlo por su identificador.
+     *
+     * @param samples Muestras en el formato de la mezcla
+     * @return Identificador del sonido
+     */
+    public synchronized int register(short[] samples) {
+        short[][] grown = Arrays.copyOf(sounds, sounds.length + 1);
+        grown[sounds.length] = samples;
+        sounds = grown;
+        return grown.length - 1;
+    }
+
+    /**
+     * Pide reproducir un sonido registrado. No espera: la voz se asigna en el
+     * hilo de audio antes de mezclar el siguiente bloque.
+     *
+     * @param sound Identificador del sonido
+     * @param gain Ganancia de la voz (1 es el volumen original)
+     * @param priority Prioridad frente a otros sonidos al faltar voces
+     * @param loop true para repetir el sonido hasta detenerlo
+     * @return true si se ha encolado la orden
+     */
+    public boolean play(int sound, float gain, int priority, boolean loop) {
+        if (!running || sound < 0) {
+            return false;
+        }
+        long gainQ8 = Math.min(0xFFFF, Math.round(gain * 256f));
+        return commands.offer(COMMAND_PLAY << COMMAND_TYPE_SHIFT
+                | (loop ? 1L : 0L) << COMMAND_LOOP_SHIFT
+                | (long) (priority & 0xFF) << COMMAND_PRIORITY_SHIFT
+                | gainQ8 << COMMAND_GAIN_SHIFT
+                | sound);
+    }
+
+    /**
+     * Pide detener todas las voces que reproducen un sonido.
+     *
+     * @param sound Identificador del sonido
+     * @return true si se ha encolado la orden
+     */
+    public boolean stop(int sound) {
+        if (!running || sound < 0) {
+            return false;
+        }
+        return commands.offer(COMMAND_STOP << COMMAND_TYPE_SHIFT | sound);
+    }
+
+    /**
+     * Ejecuta una orden en el hilo de audio.
+     */
+    private void execute(long command) {
+        int sound = (int) (command & COMMAND_SOUND_MASK);
+        if (command >>> COMMAND_TYPE_SHIFT == COMMAND_STOP) {
+            for (int voice = 0; voice < AUDIO_VOICES; voice++) {
+                if (voiceSamples[voice] != null && voiceSound[voice] == sound) {
+                    voiceSamples[voice] = null;
+                }
+            }
+            return;
+        }
+
+        short[][] registered = sounds;
+        short[] samples = sound < registered.length ? registered[sound] : null;
+        if (samples == null || samples.length == 0) {
+            return;
+        }
+
+        int priority = (int) (command >>> COMMAND_PRIORITY_SHIFT) & 0xFF;
+        int voice = findVoice(priority);
+        if (voice < 0) {
+            return;
+        }
+
+        voiceSamples[voice] = samples;
+        voiceSound[voice] = sound;
+        voicePosition[voice] = 0;
+        voiceGain[voice] = (int) (command >>> COMMAND_GAIN_SHIFT) & 0xFFFF;
+        voicePriority[voice] = priority;
+        voiceLoop[voice] = (command >>> COMMAND_LOOP_SHIFT & 1L) != 0;
+        voiceStart[voice] = ++startCounter;
+    }
+
+    /**
+     * Busca la voz para un sonido nuevo: una libre o, si no hay, la de menor
+     * prioridad y más antigua que no supere la del sonido nuevo.
+     *
+     * @return Índice de la voz, o -1 si no hay ninguna disponible
+     */
+    private int findVoice(int priority) {
+        int candidate = -1;
+        for (int voice = 0; voice < AUDIO_VOICES; voice++) {
+            if (voiceSamples[voice] == null) {
+                return voice;
+            }
+            if (voicePriority[voice] <= priority && (candidate < 0
+                    || voicePriority[voice] < voicePriority[candidate]
+                    || (voicePriority[voice] == voicePriority[candidate] && voiceStart[voice] < voiceStart[candidate]))) {
+                candidate = voice;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Abre la línea y arranca el hilo de audio si no estaban ya. Conviene
+     * llamarlo al cargar los sonidos, fuera del hilo del juego, porque abrir
+     * la línea puede tardar.
+     *
+     * @return true si el mezclador está en marcha
+     */
+    public synchronized boolean start() {
+        if (running) {
+            return true;
+        }
+        if (unavailable) {
+            return false;
+        }
+
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, AUDIO_LINE_BUFFER_FRAMES * FORMAT.getFrameSize());
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("No hay salida de audio disponible: " + e.getMessage());
+            unavailable = true;
+            return false;
+        }
+
+        running = true;
+        audioThread = new Thread(this, "audio-mixer");
+        audioThread.setDaemon(true);
+        audioThread.setPriority(Thread.MAX_PRIORITY);
+        audioThread.start();
+        return true;
+    }
+
+    /**
+     * Bucle del hilo de audio: aplica las órdenes pendientes, mezcla un bloque
+     * y lo escribe en la línea, que bloquea hasta que hay sitio y marca así el
+     * ritmo del bucle.
+     */
+    @Override
+    public void run() {
+        while (running) {
+            commands.drain(commandHandler);
+            mixBlock();
+            line.write(outputBuffer, 0, outputBuffer.length);
+        }
+    }
+
+    /**
+     * Suma un bloque de todas las voces activas y lo convierte a bytes,
+     * saturando las muestras que se salen del rango de 16 bits.
+     */
+    private void mixBlock() {
+        Arrays.fill(mixBuffer, 0);
+
+        for (int voice = 0; voice < AUDIO_VOICES; voice++) {
+            short[] samples = voiceSamples[voice];
+            if (samples == null) {
+                continue;
+            }
+
+            int position = voicePosition[voice];
+            int gain = voiceGain[voice];
+            for (int i = 0; i < mixBuffer.length; i++) {
+                if (position >= samples.length) {
+                    if (!voiceLoop[voice]) {
+                        samples = null;
+                        break;
+                    }
+                    position = 0;
+                }
+                mixBuffer[i] += (samples[position++] * gain) >> 8;
+            }
+            voiceSamples[voice] = samples;
+            voicePosition[voice] = position;
+        }
+
+        for (int i = 0; i < mixBuffer.length; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+            outputBuffer[2 * i] = (byte) sample;
+            outputBuffer[2 * i + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    /**
+     * Detiene el hilo de audio y cierra la línea.
+     */
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = audioThread;
+        }
+
+        try {
+            thread.join(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        line.stop();
+        line.close();
+    }
+}
@@ -0,0 +1,200 @@
+package object_fight.utils;
+
+/**
+ * @author jairo
+ */
+
+import java.awt.*;
+
+/**
+ * Clase de constantes que define los valores fundamentales para el juego
+ * ObjectFight. Contiene todas las configuraciones estáticas como dimensiones,
+ * velocidades, colores y otros parámetros del juego.
+ */
+public class Constants {
+
+    // --- Configuración de Pantalla ---
+    public static final int HEADLESS_SCREEN_WIDTH = 1920; // Tamaño usado cuando no hay pantalla
+    public static final int HEADLESS_SCREEN_HEIGHT = 1080;
+    public static final Dimension SCREEN_SIZE = GraphicsEnvironment.isHeadless()
+            ? new Dimension(HEADLESS_SCREEN_WIDTH, HEADLESS_SCREEN_HEIGHT)
+            : Toolkit.getDefaultToolkit().getScreenSize();
+    public static final int SCREEN_WIDTH = (int) SCREEN_SIZE.getWidth();
+    public static final int SCREEN_HEIGHT = (int) SCREEN_SIZE.getHeight();
+    public static final int FPS = 60;
+
+    // --- Configuración del bucle de simulación ---
+    public static final int TICKS_PER_SECOND = 60; // Frecuencia fija de la simulación
+    public static final int MAX_UPDATES_PER_FRAME = 5; // Sub-pasos máximos para recuperar retraso
+
+    // --- Configuración del renderizado ---
+    public static final String RENDER_MODE_PROPERTY = "object_fight.renderMode"; // PASSIVE, ACTIVE o PARTIAL
+    public static final int ACTIVE_RENDER_BUFFERS = 2; // Buffers del BufferStrategy (page flipping)
+    public static final int SPRITE_MARGIN = 2; // Píxeles alrededor de cada sprite para los bordes
+    public static final int SPRITE_PADDLE_WIDTH_STEP = 10; // Tramo de ancho de los sprites de la paleta
+    public static final int SPRITE_CACHE_SIZES_PER_VARIANT = 32; // Tamaños guardados de cada sprite
+    public static final int DIRTY_RECTS_MAX = 64; // Regiones sucias antes de repintar el frame completo
+    public static final int DIRTY_HUD_STRIP_HEIGHT = 48; // Alto de la franja con la información de la partida
+
+    // --- Configuración del perfilador de frames ---
+    public static final String PROFILE_EXPORT_PROPERTY = "object_fight.profileExport"; // Fichero al salir
+    public static final int PROFILER_OVERLAY_X = 20;
+    public static final int PROFILER_OVERLAY_Y = 60;
+    public static final int PROFILER_OVERLAY_PADDING = 8;
+    public static final Font PROFILER_OVERLAY_FONT = new Font("Monospaced", Font.PLAIN, 14);
+    public static final Color PROFILER_OVERLAY_BACKGROUND = new Color(0, 0, 0, 170);
+
+    // --- Título del Juego ---
+    public static final String GAME_TITLE = "ObjectFight";
+
+    // --- Configuración del Juego ---
+    public static final int INITIAL_LIVES = 5;
+    public static final int GAME_INITIAL_LIVES = 3;
+    public static final int GAME_POINTS_PER_BRICK = 10;
+    public static final int GAME_PADDLE_REDUCTION_PER_LEVEL = 10;
+    public static final int GAME_BALL_REDUCTION_PER_LEVEL = 2;
+    public static final float GAME_TURBO_SPEED_MULTIPLIER = 80;
+    public static final String GAME_RANDOM_ALGORITHM = "L64X128MixRandom"; // Generador aleatorio de cada partida
+
+    // --- Configuración del Paddle ---
+    public static final int INITIAL_PADDLE_WIDTH = 250;
+    public static final int PADDLE_HEIGHT = 40;
+    public static final int PADDLE_SPEED = 40;
+    public static final int PADDLE_ORIGINAL_WIDTH = 250;
+    public static final int PADDLE_MIN_WIDTH = 100;
+    public static final int PADDLE_RESIZE_SPEED = 2;
+    public static double SPEED_MULTIPLIER = 1.0;
+    public static final Color PADDLE_COLOR = new Color(255, 20, 147);
+
+    // --- Configuración de la bola (Ball) ---
+    public static final int BALL_RADIUS = 40;
+    public static final int INITIAL_BALL_SPEED = 18;
+    public static final float CONSTANT_BALL_SPEED = 10.0f;
+    public static final float MAX_BOUNCE_ANGLE = 75.0f;
+    public static final float MIN_VERTICAL_SPEED = CONSTANT_BALL_SPEED * 0.3f;
+    public static final int BALL_INITIAL_Y_OFFSET = 100;
+    public static final Color BALL_COLOR = new Color(255, 165, 0);
+    public static final float BASE_BALL_SPEED = 15.0f;  // Aumentado de la velocidad base
+    public static final float SPEED_INCREMENT = 0.2f;   // La bola se acelera con cada golpe
+    public static final float MAX_BALL_SPEED = 25.0f;   // Velocidad máxima permitida
+    public static final float MULTIBALL_SPREAD_DEGREES = 15f; // Separación entre las bolas de un multibola
+
+    // --- Configuración de los paquetes de niveles ---
+    public static final String LEVEL_PACK_PROPERTY = "object_fight.levelPack"; // Ruta de un paquete binario externo
+    public static final String DEFAULT_LEVEL_PACK = "/levels/default.bin";
+    public static final String DEFAULT_LEVEL_SOURCE = "/levels/default.txt";
+    public static final int LEVEL_CACHE_CAPACITY = 8; // Niveles decodificados que se conservan en caché
+
+    // --- Configuración del generador de niveles procedurales ---
+    public static final float PROCEDURAL_SIDE_MARGIN = 40f;
+    public static final float PROCEDURAL_AREA_HEIGHT_RATIO = 0.5f; // Fracción de la altura ocupada por ladrillos
+    public static final float PROCEDURAL_BRICK_GAP = 0.1f;         // Fracción de la celda que queda libre
+    public static final double PROCEDURAL_DEFAULT_DENSITY = 0.8;
+    public static final double PROCEDURAL_UNBREAKABLE_CHANCE = 0.05;
+    public static final double PROCEDURAL_RESISTANT_CHANCE = 0.2;
+    public static final double PROCEDURAL_MOVABLE_CHANCE = 0.1;
+
+    // --- Configuración de la detección de colisiones ---
+    public static final int BROADPHASE_MIN_CELL_SIZE = 16; // Lado mínimo de las celdas de la rejilla de ladrillos
+    public static final int BROADPHASE_MAX_CELL_SIZE = 128; // Lado máximo, y el de una rejilla sin ladrillos
+    public static final int MAX_BALL_IMPACTS_PER_TICK = 4; // Impactos consecutivos que se resuelven en un tick
+    public static final float SWEEP_SKIN = 0.01f;          // Separación que se deja tras un impacto
+    public static final int PARALLEL_SWEEP_MIN_BALLS = 64; // Bolas a partir de las que se barren en paralelo
+
+    // --- Configuración de los ladrillos (Brick) ---
+    public static final int BRICK_WIDTH = 100;
+    public static final int BRICK_FIELD_INITIAL_CAPACITY = 64; // Ladrillos reservados al crear el almacén
+    public static final int BRICK_HEIGHT = 60;
+    public static final int INITIAL_BRICK_ROWS = 5;
+    public static final int INITIAL_BRICK_COLUMNS = 10;
+    public static final int BRICK_SPACING = 40;
+    public static final int BRICK_TOP_MARGIN = 80;
+    public static final int POINTS_PER_BRICK = 100;
+    public static final Color BRICK_COLOR = Color.WHITE;
+    public static final Color BRICK_BASE_COLOR = new Color(100, 100, 150);
+    public static final Color BRICK_BORDER_COLOR = new Color(150, 150, 200);
+
+    // --- Configuración de los ladrillos irrompibles (Unbreakable Bricks) ---
+    public static final Color UNBREAKABLE_BRICK_COLOR = Color.GRAY;
+    public static final Color UNBREAKABLE_BRICK_BASE_COLOR = new Color(50, 50, 70);
+    public static final Color UNBREAKABLE_BRICK_HIGHLIGHT_COLOR = new Color(90, 90, 110);
+    public static final Color UNBREAKABLE_BRICK_TEXTURE_COLOR = new Color(120, 120, 140, 100);
+    public static final int UNBREAKABLE_BRICK_BORDER_WIDTH = 3;
+    public static final int UNBREAKABLE_BRICK_LINE_SPACING = 10;
+
+    // --- Configuración de los ladrillos resistentes (Resistant Bricks) ---
+    public static final int RESISTANT_BRICK_INITIAL_HITS = 3;
+    public static final int RESISTANT_BRICK_LINE_SPACING = 5;
+    public static final Color RESISTANT_BRICK_COLOR_PHASE1 = new Color(135, 206, 250, 150);
+    public static final Color RESISTANT_BRICK_COLOR_PHASE2 = new Color(100, 180, 230, 150);
+    public static final Color RESISTANT_BRICK_COLOR_PHASE3 = new Color(70, 150, 200, 150);
+    public static final Color RESISTANT_BRICK_GRADIENT_COLOR = new Color(255, 255, 255, 80);
+    public static final Color RESISTANT_BRICK_LINES_COLOR = new Color(255, 255, 255, 60);
+    public static final Color RESISTANT_BRICK_CRACKS_COLOR = new Color(255, 255, 255, 120);
+
+    // --- Configuración de los ladrillos móviles (Movable Bricks) ---
+    public static final int MOVABLE_BRICK_INITIAL_DIRECTION = 1;
+    public static final int MOVABLE_BRICK_DEFAULT_SPEED = 1;
+
+    // --- Configuración de Colores de Debug ---
+    public static final Color DEBUG_LINE_COLOR = Color.RED;
+    public static final int DEBUG_VELOCITY_LINE_MULTIPLIER = 10;
+    public static final Color COLLIDER_DEBUG_COLOR = Color.RED;
+
+    // --- Constantes de Patrones de Niveles ---
+    public static final int PATTERN_BRICK_SPACING = 10;
+    public static final int PATTERN_MOVABLE_BRICK_SPACING = 502;
+    public static final int PATTERN_MOVEMENT_RANGE = 200;
+    public static final int PATTERN_MOVEMENT_SPEED = 8;
+
+    // --- Configuración del simulador por lotes ---
+    public static final int SIMULATION_DEFAULT_GAMES = 64;
+    public static final long SIMULATION_MAX_TICKS = 100_000; // Límite por partida (~28 min de juego)
+    public static final int SIMULATION_PADDLE_DEAD_ZONE = 20; // Margen en el que el piloto no mueve la paleta
+
+    // --- Configuración de la carga de recursos ---
+    public static final int ASSET_LOADER_THREADS = 4; // Hilos máximos para cargar recursos en paralelo
+    public static final String ASSET_BACKGROUND_IMAGE = "/backgrounds/game/GameBackground.jpg";
+    public static final String ASSET_NEW_GAME_BUTTON = "/backgrounds/buttons/NewGame.png";
+    public static final String ASSET_EXIT_BUTTON = "/backgrounds/buttons/Exit.png";
+    public static final String ASSET_SOUNDS_FOLDER = "/sounds/";
+    public static final String[] ASSET_IMAGES = {ASSET_BACKGROUND_IMAGE, ASSET_NEW_GAME_BUTTON, ASSET_EXIT_BUTTON};
+    public static final String[] ASSET_SOUNDS = {"BallCollision", "BreakBrick", "GameOver", "LiveLoss", "Victory", "MenuMusic"};
+
+    // --- Configuración del audio ---
+    public static final float AUDIO_SAMPLE_RATE = 44100f; // Frecuencia de muestreo de la mezcla
+    public static final int AUDIO_CHANNELS = 2; // Canales de la mezcla (estéreo)
+    public static final int AUDIO_VOICES = 16; // Sonidos que pueden sonar a la vez
+    public static final int AUDIO_BLOCK_FRAMES = 256; // Frames mezclados en cada bloque (~6 ms)
+    public static final int AUDIO_LINE_BUFFER_FRAMES = 1024; // Buffer de la línea de salida (~23 ms)
+    public static final int AUDIO_COMMAND_QUEUE_CAPACITY = 256; // Órdenes pendientes para el mezclador (potencia de dos)
+    public static final int AUDIO_MAX_EFFECTS = 64; // Efectos que se pueden agrupar por tick
+    public static final int SOUND_PRIORITY_LOW = 0; // Rebotes, que se pueden sustituir primero
+    public static final int SOUND_PRIORITY_NORMAL = 1; // Ladrillos destruidos
+    public static final int SOUND_PRIORITY_HIGH = 2; // Vidas perdidas, victoria y fin de partida
+    public static final int SOUND_PRIORITY_MUSIC = 3; // Música, que nunca se sustituye
+    public static final float SOUND_MUSIC_GAIN = 0.6f; // Volumen de la música bajo los efectos
+
+    // --- Constantes de UI ---
+    public static final int UI_SCORE_X = 20;
+    public static final int UI_SCORE_Y = 30;
+    public static final int UI_LIVES_OFFSET = 210;
+    public static final Font UI_FALLBACK_FONT = new Font("Monospaced", Font.BOLD, 24);
+    public static final String UI_ARCADE_FONT_PATH = "/fonts/PressStart2P.ttf";
+    public static final float UI_HUD_FONT_SIZE = 24f;
+    public static final int UI_LOADING_REFRESH_MS = 100; // Refresco del indicador de carga del menú
+    public static final int UI_LOADING_BAR_WIDTH = 300;
+    public static final int UI_LOADING_BAR_HEIGHT = 8;
+    public static final int UI_LOADING_MARGIN = 30; // Distancia de la barra al borde inferior
+
+    /**
+     * Constructor privado para evitar la instanciación de esta clase de
+     * utilidad.
+     *
+     * @throws AssertionError siempre, ya que esta clase no debe ser instanciada
+     */
+    private Constants() {
+        throw new AssertionError("Esta clase no debe ser instanciada");
+    }
+}
+
@@ -0,0 +1,122 @@
+package object_fight.utils;
+
+/**
+ * @author jairo
+ */
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Registro compartido de las fuentes del juego. La fuente arcade se lee y se
+ * interpreta una sola vez, en un hilo en segundo plano al arrancar, y cada
+ * tamaño derivado y sus {@link FontMetrics} se guardan para que los paneles
+ * no tengan que volver a crearlos en cada frame.
+ *
+ * Es seguro usarlo desde varios hilos: el hilo de eventos y el hilo del juego
+ * pintan con las mismas fuentes.
+ */
+public class FontRegistry {
+
+    // Instancia única del registro
+    private static final FontRegistry INSTANCE = new FontRegistry();
+
+    // Carga de la fuente arcade base, o null si todavía no se ha pedido
+    private CompletableFuture<Font> arcadeFont;
+
+    // Fuentes derivadas por tamaño y métricas de cada fuente
+    private final Map<Float, Font> arcadeSizes = new ConcurrentHashMap<>();
+    private final Map<Font, FontMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor privado para evitar instanciar.
+     */
+    private FontRegistry() {
+    }
+
+    /**
+     * Obtiene la única instancia del registro.
+     *
+     * @return El registro de fuentes
+     */
+    public static FontRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Empieza a cargar la fuente arcade en segundo plano si no se había
+     * empezado ya. Conviene llamarlo al arrancar, antes de crear la interfaz.
+     *
+     * @return Carga de la fuente, que termina con null si no se pudo leer
+     */
+    public synchronized CompletableFuture<Font> preload() {
+        if (arcadeFont == null) {
+            arcadeFont = CompletableFuture.supplyAsync(FontRegistry::loadArcadeFont);
+        }
+        return arcadeFont;
+    }
+
+    /**
+     * Indica si la fuente arcade está disponible. Si todavía se está cargando
+     * espera a que termine.
+     *
+     * @return true si se ha cargado, false si falló la carga
+     */
+    public boolean isArcadeFontAvailable() {
+        return preload().join() != null;
+    }
+
+    /**
+     * Devuelve la fuente arcade en el tamaño indicado. Si no se pudo cargar se
+     * devuelve la fuente alternativa en ese tamaño.
+     *
+     * @param size Tamaño en puntos
+     * @return Fuente lista para dibujar
+     */
+    public Font getArcadeFont(float size) {
+        Font base = preload().join();
+        return arcadeSizes.computeIfAbsent(size,
+                key -> base != null ? base.deriveFont(key) : UI_FALLBACK_FONT.deriveFont(key));
+    }
+
+    /**
+     * Devuelve las métricas de una fuente, calculadas la primera vez con el
+     * contexto gráfico indicado.
+     *
+     * @param g Contexto gráfico en el que se va a dibujar
+     * @param font Fuente
+     * @return Métricas de la fuente
+     */
+    public FontMetrics getMetrics(Graphics g, Font font) {
+        FontMetrics cached = metrics.get(font);
+        if (cached == null) {
+            cached = g.getFontMetrics(font);
+            metrics.putIfAbsent(font, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Lee la fuente arcade de los recursos.
+     *
+     * @return La fuente, o null si no se pudo leer
+     */
+    private static Font loadArcadeFont() {
+        try (InputStream in = FontRegistry.class.getResourceAsStream(UI_ARCADE_FONT_PATH)) {
+            if (in == null) {
+                System.err.println("No se encuentra la fuente " + UI_ARCADE_FONT_PATH);
+                return null;
+            }
+            return Font.createFont(Font.TRUETYPE_FONT, in);
+        } catch (FontFormatException | IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package object_fight.utils;
+
+/**
+ * @author jairo
+ */
+
+/**
+ * Configuración del área de juego. Define las dimensiones del tablero sobre el
+ * que se simula la partida de forma independiente de la pantalla, lo que
+ * permite ejecutar el motor sin AWT ni Swing (modo headless).
+ */
+public class PlayfieldConfig {
+
+    // Dimensiones del área de juego en píxeles
+    private final int width;
+    private final int height;
+
+    /**
+     * Constructor de la configuración del área de juego.
+     *
+     * @param width Ancho del área de juego
+     * @param height Alto del área de juego
+     * @throws IllegalArgumentException si alguna dimensión no es positiva
+     */
+    public PlayfieldConfig(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Dimensiones del área de juego inválidas: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    // Getters
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Devuelve una representación en String de la configuración.
+     */
+    @Override
+    public String toString() {
+        return "PlayfieldConfig[" + width + "x" + height + "]";
+    }
+}
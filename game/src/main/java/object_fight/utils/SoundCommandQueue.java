@@ -0,0 +1,108 @@
+package object_fight.utils;
+
+/**
+ * @author jairo
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * Cola circular sin bloqueos de varios productores y un único consumidor para
+ * las órdenes del mezclador de audio. El hilo del juego y el hilo de eventos
+ * encolan órdenes codificadas en un {@code long} y el hilo de audio las vacía
+ * antes de mezclar cada bloque.
+ *
+ * Cada hueco tiene un número de secuencia que indica si está libre para la
+ * siguiente vuelta de escritura o ya contiene una orden publicada. Los
+ * productores se reparten los huecos con una operación CAS sobre la posición
+ * de escritura y publican la orden actualizando la secuencia, de modo que
+ * ningún hilo espera a otro y una orden nunca se lee a medio escribir. Si la
+ * cola está llena la orden se descarta en lugar de esperar.
+ */
+public class SoundCommandQueue {
+
+    // Almacenamiento de las órdenes y secuencia de cada hueco
+    private final long[] commands;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    // Posición de escritura, compartida por los productores
+    private final AtomicLong tail = new AtomicLong();
+
+    // Posición de lectura (solo la usa el consumidor)
+    private long head;
+
+    /**
+     * Constructor de la cola.
+     *
+     * @param capacity Capacidad de la cola, debe ser potencia de dos
+     * @throws IllegalArgumentException si la capacidad no es potencia de dos
+     */
+    public SoundCommandQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser potencia de dos: " + capacity);
+        }
+        this.commands = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Encola una orden. Puede llamarse desde cualquier hilo.
+     *
+     * @param command Orden codificada
+     * @return true si se ha encolado, false si la cola está llena
+     */
+    public boolean offer(long command) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+
+            if (difference == 0) {
+                // El hueco está libre en esta vuelta: se intenta reservar
+                if (tail.compareAndSet(position, position + 1)) {
+                    commands[index] = command;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // El consumidor todavía no ha leído el hueco de la vuelta anterior
+                return false;
+            } else {
+                // Otro productor ha reservado el hueco antes
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Extrae todas las órdenes publicadas en orden de llegada. Solo debe
+     * llamarse desde el hilo consumidor.
+     *
+     * @param handler Receptor de las órdenes
+     * @return Número de órdenes procesadas
+     */
+    public int drain(LongConsumer handler) {
+        int count = 0;
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.getAcquire(index) != head + 1) {
+                return count;
+            }
+
+            long command = commands[index];
+            sequences.setRelease(index, head + commands.length);
+            head++;
+
+            handler.accept(command);
+            count++;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package object_fight.utils;
+
+/**
+ * @author jairo
+ */
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Sonido ya decodificado a muestras PCM, listo para abrir una línea de audio
+ * sin volver a leer ni interpretar el fichero.
+ */
+public class SoundData {
+
+    // Formato de las muestras
+    private final AudioFormat format;
+
+    // Muestras del sonido completo
+    private final byte[] samples;
+
+    /**
+     * Constructor de un sonido decodificado.
+     *
+     * @param format Formato de las muestras
+     * @param samples Muestras del sonido completo
+     */
+    public SoundData(AudioFormat format, byte[] samples) {
+        this.format = format;
+        this.samples = samples;
+    }
+
+    // Getters
+    public AudioFormat getFormat() {
+        return format;
+    }
+
+    public byte[] getSamples() {
+        return samples;
+    }
+
+    public int getFrameCount() {
+        return samples.length / format.getFrameSize();
+    }
+}
@@ -0,0 +1,261 @@
+package object_fight.utils;
+
+/**
+ *
+ * @author jairo
+ */
+
+import object_fight.profiling.SoundPlayEvent;
+
+import javax.swing.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static object_fight.utils.Constants.*;
+
+/**
+ * Clase que se encarga de gestionar los efectos de sonido y la música de fondo
+ * en el juego. Implementa el patrón Singleton para asegurar que solo exista una
+ * única instancia de SoundManager, que puede obtenerse desde cualquier hilo.
+ *
+ * Los sonidos se decodifican en segundo plano a través de
+ * {@link AssetManager}; un efecto que todavía no ha terminado de cargarse
+ * simplemente no suena. Todos suenan en el {@link AudioMixer}, de modo que
+ * varios efectos, o varias veces el mismo, pueden sonar a la vez.
+ *
+ * Cada efecto tiene un bit propio ({@link #getEffectMask(String)}). Cada
+ * partida apunta en su propia máscara los efectos que pide durante un tick y
+ * al final del tick la envía con {@link #flushSounds(long)}, que manda una
+ * sola orden por efecto: veinte ladrillos rotos en el mismo tick producen un
+ * único sonido, el tick nunca espera al audio y varias partidas a la vez no
+ * se envían los sonidos unas a otras.
+ */
+public class SoundManager implements SoundOutput {
+
+    /**
+     * Contenedor de la instancia única. La JVM la crea al usarla por primera
+     * vez y garantiza que todos los hilos ven la misma.
+     */
+    private static class Holder {
+
+        private static final SoundManager INSTANCE = new SoundManager();
+    }
+
+    /**
+     * Efecto de sonido listo para el mezclador.
+     */
+    private static class Effect {
+
+        // Bit del efecto en la máscara de efectos pedidos
+        private final int slot;
+
+        // Identificador del sonido en el mezclador
+        private final int sound;
+        private final int priority;
+
+        Effect(int slot, int sound, int priority) {
+            this.slot = slot;
+            this.sound = sound;
+            this.priority = priority;
+        }
+    }
+
+    // Mezclador por software en el que suenan todos los sonidos
+    private final AudioMixer mixer = new AudioMixer();
+
+    // Mapa para almacenar los efectos de sonido con sus nombres asociados
+    // (se rellena desde los hilos de carga)
+    private Map<String, Effect> soundEffects = new ConcurrentHashMap<>();
+
+    // Efectos por bit de la máscara y siguiente bit libre
+    private final AtomicReferenceArray<Effect> effectSlots = new AtomicReferenceArray<>(AUDIO_MAX_EFFECTS);
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    // Sonido de la música del menú en el mezclador, o -1 si no se ha cargado
+    private int menuMusic = -1;
+
+    // Indica si la música del menú debe sonar cuando termine de cargarse
+    private boolean menuMusicRequested;
+
+    /**
+     * Constructor privado para evitar instanciar.
+     */
+    private SoundManager() {
+    }
+
+    /**
+     * Método estático para obtener la única instancia de SoundManager
+     *
+     * @return la única instancia de SoundManager
+     */
+    public static SoundManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    // Método para cargar un efecto de sonido en el mapa
+    // name: el nombre con el que se identificará el sonido
+    // filePath: ruta del archivo de sonido dentro de la carpeta "Sounds" (sin extensión)
+    /**
+     * Método para almacenar un efecto de sonido en el mapa con prioridad
+     * normal.
+     *
+     * @param name nombre que se le va a dar al sonido
+     * @param filePath ruta donde se encuentra el archivo del sonido
+     */
+    public void loadSound(String name, String filePath) {
+        loadSound(name, filePath, SOUND_PRIORITY_NORMAL);
+    }
+
+    /**
+     * Método para almacenar un efecto de sonido en el mapa. No espera a que
+     * el sonido se cargue: se convierte al formato del mezclador en el hilo
+     * de carga en cuanto está decodificado.
+     *
+     * @param name nombre que se le va a dar al sonido
+     * @param filePath ruta donde se encuentra el archivo del sonido
+     * @param priority prioridad del efecto cuando faltan voces en el mezclador
+     */
+    public void loadSound(String name, String filePath, int priority) {
+        AssetManager.getInstance().loadSound(filePath).thenAccept(data -> {
+            int sound = prepare(data);
+            if (sound < 0) {
+                return;
+            }
+
+            int slot = nextSlot.getAndIncrement();
+            if (slot >= AUDIO_MAX_EFFECTS) {
+                System.err.println("Demasiados efectos de sonido, se descarta " + name);
+                return;
+            }
+            Effect effect = new Effect(slot, sound, priority);
+            effectSlots.set(slot, effect);
+            soundEffects.put(name, effect);
+        });
+    }
+
+    /**
+     * Convierte un sonido al formato del mezclador, lo registra en él y pone
+     * en marcha el mezclador, fuera del hilo del juego.
+     *
+     * @param data Sonido decodificado, o null si no se pudo cargar
+     * @return Identificador del sonido en el mezclador, o -1 si no se pudo
+     * convertir
+     */
+    private int prepare(SoundData data) {
+        short[] samples = AudioMixer.toMixFormat(data);
+        if (samples == null) {
+            return -1;
+        }
+        mixer.start();
+        return mixer.register(samples);
+    }
+
+    /**
+     * Método para reproducir al momento un efecto de sonido del mapa, fuera
+     * del tick del juego (menús, fin de partida...). Cada llamada se registra
+     * como un {@link SoundPlayEvent} si JFR está grabando; el evento solo se
+     * crea en ese caso.
+     *
+     * @param name nombre del sonido a reproducir
+     */
+    public void playSound(String name) {
+        SoundPlayEvent event = SoundPlayEvent.isRecording() ? new SoundPlayEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        // Se obtiene el efecto del mapa y se envía al mezclador
+        Effect effect = soundEffects.get(name);
+        if (effect != null) {
+            mixer.play(effect.sound, 1f, effect.priority, false);
+        }
+
+        if (event != null && event.shouldCommit()) {
+            event.name = name;
+            event.found = effect != null;
+            event.coalesced = false;
+            event.commit();
+        }
+    }
+
+    /**
+     * Devuelve el bit que identifica a un efecto en las máscaras de efectos
+     * pedidos.
+     *
+     * @param name nombre del sonido
+     * @return Máscara con el bit del efecto, o 0 si no se ha cargado
+     */
+    @Override
+    public long getEffectMask(String name) {
+        Effect effect = soundEffects.get(name);
+        return effect != null ? 1L << effect.slot : 0L;
+    }
+
+    /**
+     * Envía al mezclador una orden por cada efecto de la máscara. Las partidas
+     * lo llaman al final de cada tick con los efectos que han pedido; no
+     * espera al hilo de audio y, si su cola está llena, el efecto se descarta.
+     *
+     * @param effects Máscara de efectos pedidos
+     */
+    @Override
+    public void flushSounds(long effects) {
+        while (effects != 0) {
+            Effect effect = effectSlots.get(Long.numberOfTrailingZeros(effects));
+            effects &= effects - 1;
+            mixer.play(effect.sound, 1f, effect.priority, false);
+        }
+    }
+
+    // Método para reproducir la música del menú en bucle continuo
+    // filePath: ruta del archivo de sonido dentro de la carpeta "Sounds" (sin extensión)
+    /**
+     * Método para reproducir la música de fondo del menú en bucle continuo.
+     * Se llama desde el hilo de eventos; si la música todavía se está
+     * cargando, empieza a sonar en cuanto termina, salvo que entretanto se
+     * haya pedido detenerla.
+     *
+     * @param filePath ruta donde se encuentra el archivo de la música de fondo
+     */
+    public void playMenuMusic(String filePath) {
+        menuMusicRequested = true;
+        if (menuMusic >= 0) {
+            // Ya está registrada en el mezclador
+            startMenuMusic(menuMusic);
+            return;
+        }
+        AssetManager.getInstance().loadSound(filePath)
+                .thenApply(this::prepare)
+                .thenAcceptAsync(this::startMenuMusic, SwingUtilities::invokeLater);
+    }
+
+    /**
+     * Arranca en bucle la música del menú, en el hilo de eventos.
+     */
+    private void startMenuMusic(int sound) {
+        menuMusic = sound;
+        if (!menuMusicRequested) {
+            return;
+        }
+        mixer.stop(sound);
+        mixer.play(sound, SOUND_MUSIC_GAIN, SOUND_PRIORITY_MUSIC, true);
+    }
+
+    /**
+     * Método para detener la música del menú si está en reproducción.
+     */
+    public void stopMenuMusic() {
+        menuMusicRequested = false;
+        mixer.stop(menuMusic);
+    }
+
+    /**
+     * Método para cerrar todos los recursos de audio: detiene el hilo del
+     * mezclador y cierra la línea de salida.
+     */
+    public void close() {
+        mixer.close();
+    }
+}
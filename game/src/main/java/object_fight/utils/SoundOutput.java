@@ -0,0 +1,45 @@
+package object_fight.utils;
+
+/**
+ * @author jairo
+ */
+
+/**
+ * Interfaz que define la salida de los efectos de sonido de una partida. La
+ * partida apunta en una máscara, un bit por efecto, los sonidos que pide
+ * durante un tick y la envía al final del tick, sin saber si detrás hay un
+ * mezclador de audio o nada en absoluto.
+ */
+public interface SoundOutput {
+
+    /**
+     * Salida que no reproduce nada, para las partidas simuladas sin pantalla
+     * ni dispositivo de audio.
+     */
+    SoundOutput SILENT = new SoundOutput() {
+        @Override
+        public long getEffectMask(String name) {
+            return 0L;
+        }
+
+        @Override
+        public void flushSounds(long effects) {
+        }
+    };
+
+    /**
+     * Devuelve el bit que identifica a un efecto en las máscaras de efectos
+     * pedidos.
+     *
+     * @param name Nombre del sonido
+     * @return Máscara con el bit del efecto, o 0 si no está disponible
+     */
+    long getEffectMask(String name);
+
+    /**
+     * Reproduce una vez cada efecto de la máscara, sin esperar al audio.
+     *
+     * @param effects Máscara de efectos pedidos
+     */
+    void flushSounds(long effects);
+}
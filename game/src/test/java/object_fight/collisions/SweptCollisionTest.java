@@ -0,0 +1,58 @@
+package object_fight.collisions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author jairo
+ */
+class SweptCollisionTest {
+
+    private static final float EPSILON = 1e-3f;
+
+    private final SweptCollision sweep = new SweptCollision();
+
+    @Test
+    void hitsFaceFromOutsideExpandedBox() {
+        assertTrue(sweep.sweepCircleBox(150f, 50f, 15f, 0f, 60f, 100f, 100f, 200f, 110f));
+        assertEquals(35f / 60f, sweep.getTime(), EPSILON);
+        assertEquals(0f, sweep.getNormalX(), EPSILON);
+        assertEquals(-1f, sweep.getNormalY(), EPSILON);
+    }
+
+    @Test
+    void hitsCornerWhenStartingInsideCornerRegion() {
+        // El centro empieza dentro de la caja ampliada pero fuera del cuarto de círculo
+        assertTrue(sweep.sweepCircleBox(88.75f, 88.75f, 15f, 6f, 40f, 100f, 100f, 200f, 110f));
+        assertTrue(sweep.getTime() > 0f && sweep.getTime() < 1f);
+        assertTrue(sweep.getNormalX() < 0f);
+        assertTrue(sweep.getNormalY() < 0f);
+
+        // En el instante de impacto el centro está a un radio de la esquina
+        float hitX = 88.75f + 6f * sweep.getTime();
+        float hitY = 88.75f + 40f * sweep.getTime();
+        assertEquals(15f, (float) Math.hypot(hitX - 100f, hitY - 100f), EPSILON);
+    }
+
+    @Test
+    void hitsCornerDiagonallyWhenStartingInsideCornerRegion() {
+        assertTrue(sweep.sweepCircleBox(88.75f, 88.75f, 15f, 20f, 20f, 100f, 100f, 200f, 110f));
+        float expected = (11.25f - 15f / (float) Math.sqrt(2)) / 20f;
+        assertEquals(expected, sweep.getTime(), EPSILON);
+        assertEquals(-(float) Math.sqrt(0.5), sweep.getNormalX(), EPSILON);
+        assertEquals(-(float) Math.sqrt(0.5), sweep.getNormalY(), EPSILON);
+    }
+
+    @Test
+    void missesWhenLeavingCornerRegion() {
+        assertFalse(sweep.sweepCircleBox(88.75f, 88.75f, 15f, -6f, -40f, 100f, 100f, 200f, 110f));
+    }
+
+    @Test
+    void ignoresOverlapWhenMovingAway() {
+        assertFalse(sweep.sweepCircleBox(150f, 90f, 15f, 0f, -10f, 100f, 100f, 200f, 110f));
+    }
+}
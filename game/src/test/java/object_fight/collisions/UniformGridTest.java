@@ -0,0 +1,58 @@
+package object_fight.collisions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author jairo
+ */
+class UniformGridTest {
+
+    @Test
+    void queryReturnsSortedUniqueIds() {
+        UniformGrid grid = new UniformGrid(100f, 100f, 10f);
+        grid.clear(3);
+        grid.insert(2, 0f, 0f, 25f, 5f);
+        grid.insert(0, 15f, 0f, 18f, 5f);
+        grid.insert(1, 50f, 50f, 55f, 55f);
+
+        UniformGrid.Query query = new UniformGrid.Query();
+        assertEquals(2, grid.query(query, 0f, 0f, 30f, 5f));
+        assertEquals(0, query.getResult(0));
+        assertEquals(2, query.getResult(1));
+    }
+
+    @Test
+    void queryDropsObjectsOutsideTheBoxInTheSameCell() {
+        UniformGrid grid = new UniformGrid(100f, 100f, 50f);
+        grid.clear(2);
+        grid.insert(0, 0f, 0f, 5f, 5f);
+        grid.insert(1, 40f, 40f, 45f, 45f);
+
+        UniformGrid.Query query = new UniformGrid.Query();
+        assertEquals(1, grid.query(query, 38f, 38f, 42f, 42f));
+        assertEquals(1, query.getResult(0));
+    }
+
+    @Test
+    void largeQueriesAreSortedAndUnique() {
+        // Ladrillos que ocupan varias celdas, más de los que se ordenan por inserción
+        UniformGrid grid = new UniformGrid(400f, 400f, 10f);
+        int count = 500;
+        grid.clear(count);
+        for (int id = 0; id < count; id++) {
+            int cell = (id * 37) % 1600;
+            float x = (cell % 40) * 10f;
+            float y = (cell / 40) * 10f;
+            grid.insert(id, x, y, x + 15f, y + 15f);
+        }
+
+        UniformGrid.Query query = new UniformGrid.Query();
+        assertEquals(count, grid.query(query, 0f, 0f, 400f, 400f));
+        for (int i = 1; i < query.getCount(); i++) {
+            assertTrue(query.getResult(i - 1) < query.getResult(i));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package object_fight.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import object_fight.collisions.UniformGrid;
+import object_fight.gameobjects.Ball;
+import object_fight.gameobjects.bricks.BrickField;
+import object_fight.gameobjects.bricks.BrickType;
+import object_fight.utils.PlayfieldConfig;
+import object_fight.utils.Vector2D;
+
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import static object_fight.utils.Constants.MAX_BALL_IMPACTS_PER_TICK;
+
+/**
+ * @author jairo
+ */
+class BallSweepTest {
+
+    private static final PlayfieldConfig PLAYFIELD = new PlayfieldConfig(800, 600);
+
+    // Canal entre dos ladrillos irrompibles: el centro de la bola (radio 40)
+    // solo puede moverse entre x = 140 y x = 150
+    private static final float CHANNEL_MIN_X = 140f;
+    private static final float CHANNEL_MAX_X = 150f;
+
+    private final BrickField bricks = new BrickField(2);
+    private final UniformGrid grid = new UniformGrid(800f, 600f, 64f);
+
+    BallSweepTest() {
+        bricks.add(BrickType.UNBREAKABLE, 0f, 0f, 100f, 600f);
+        bricks.add(BrickType.UNBREAKABLE, 190f, 0f, 110f, 600f);
+        grid.clear(bricks.size());
+        for (int i = 0; i < bricks.size(); i++) {
+            grid.insert(i, bricks.getX(i), bricks.getY(i),
+                    bricks.getX(i) + bricks.getWidth(i), bricks.getY(i) + bricks.getHeight(i));
+        }
+    }
+
+    @Test
+    void keepsRemainingDisplacementAfterLastImpact() {
+        // Cuatro rebotes consumen 35 px y quedan 5 px hacia la derecha
+        Ball ball = ballAt(145f, 40f);
+        BallSweep sweep = new BallSweep();
+        sweep.run(ball, bricks, grid);
+
+        assertEquals(MAX_BALL_IMPACTS_PER_TICK, sweep.getHitCount());
+        assertEquals(145f, ball.getCenterX(), 0.1f);
+        assertTrue(ball.getVelocityX() > 0f);
+    }
+
+    @Test
+    void stopsAtContactWhenRemainingDisplacementWouldPenetrate() {
+        // Quedan 25 px, pero solo hay 10 px libres hasta el ladrillo derecho
+        Ball ball = ballAt(145f, 60f);
+        BallSweep sweep = new BallSweep();
+        sweep.run(ball, bricks, grid);
+
+        assertEquals(MAX_BALL_IMPACTS_PER_TICK, sweep.getHitCount());
+        assertTrue(ball.getCenterX() <= CHANNEL_MAX_X);
+        assertEquals(CHANNEL_MAX_X, ball.getCenterX(), 0.1f);
+        assertTrue(ball.getCenterX() >= CHANNEL_MIN_X);
+    }
+
+    private static Ball ballAt(float centerX, float velocityX) {
+        Ball ball = new Ball(new Vector2D(0, 0), 0, PLAYFIELD, RandomGenerator.of("L64X128MixRandom"));
+        ball.setStuckToPaddle(false);
+        ball.advance(centerX - ball.getCenterX(), 300f - ball.getCenterY());
+        ball.setVelocity(new Vector2D(velocityX, 0f));
+        return ball;
+    }
+}
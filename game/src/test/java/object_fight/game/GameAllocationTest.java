@@ -0,0 +1,87 @@
+package object_fight.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import object_fight.levels.ProceduralLevelGenerator;
+import object_fight.simulation.Autopilot;
+import object_fight.utils.PlayfieldConfig;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author jairo
+ */
+class GameAllocationTest {
+
+    private static final int WARMUP_TICKS = 10_000;
+    private static final int MEASURED_TICKS = 10_000;
+
+    // Margen para lo que pueda reservar la propia medición
+    private static final long MAX_ALLOCATED_BYTES = 1024;
+
+    @Test
+    void singleBallTicksDoNotAllocate() {
+        Game game = newGame();
+        tick(game, WARMUP_TICKS);
+
+        long allocated = allocatedDuring(game, MEASURED_TICKS);
+
+        assertEquals(1, game.getCurrentLevel());
+        assertTrue(allocated < MAX_ALLOCATED_BYTES,
+                "Se han reservado " + allocated + " bytes en " + MEASURED_TICKS + " ticks");
+    }
+
+    @Test
+    void multiBallTicksDoNotAllocate() {
+        Game game = newGame();
+        tick(game, 10);
+        assertEquals(8, game.spawnBalls(8));
+        tick(game, WARMUP_TICKS);
+
+        long allocated = allocatedDuring(game, MEASURED_TICKS);
+
+        assertEquals(1, game.getCurrentLevel());
+        assertTrue(allocated < MAX_ALLOCATED_BYTES,
+                "Se han reservado " + allocated + " bytes en " + MEASURED_TICKS + " ticks");
+    }
+
+    /**
+     * Crea una partida con un único nivel con tantos ladrillos que no se
+     * completa durante la prueba.
+     */
+    private static Game newGame() {
+        Game game = new Game(new PlayfieldConfig(800, 600), 42L,
+                new ProceduralLevelGenerator(42L, 1, 1500, 0.9));
+        game.start();
+        return game;
+    }
+
+    /**
+     * Avanza la partida y devuelve los bytes reservados por el hilo actual.
+     */
+    private static long allocatedDuring(Game game, int ticks) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        tick(game, ticks);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(game.isRunning(), "La partida ha terminado antes de acabar la medición");
+        return allocated;
+    }
+
+    private static void tick(Game game, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            Autopilot.steer(game);
+            game.update();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package object_fight.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author jairo
+ */
+class InputQueueTest {
+
+    @Test
+    void onlyTheLatestMoveIsApplied() {
+        InputQueue queue = new InputQueue();
+        queue.offer(InputAction.LAUNCH);
+        queue.offer(InputAction.MOVE_LEFT);
+        queue.offer(InputAction.STOP);
+
+        assertEquals(List.of(InputAction.STOP, InputAction.LAUNCH), drain(queue));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void repeatedLaunchesAreCoalesced() {
+        InputQueue queue = new InputQueue();
+        for (int i = 0; i < 10; i++) {
+            queue.offer(InputAction.LAUNCH);
+        }
+        assertEquals(List.of(InputAction.LAUNCH), drain(queue));
+
+        // Una vez aplicado, un nuevo lanzamiento vuelve a encolarse
+        queue.offer(InputAction.LAUNCH);
+        assertFalse(queue.isEmpty());
+        assertEquals(List.of(InputAction.LAUNCH), drain(queue));
+    }
+
+    private static List<InputAction> drain(InputQueue queue) {
+        List<InputAction> drained = new ArrayList<>();
+        queue.drain(drained::add);
+        return drained;
+    }
+}